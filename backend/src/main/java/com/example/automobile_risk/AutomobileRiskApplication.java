@@ -3,10 +3,12 @@ package com.example.automobile_risk;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.TimeZone;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class AutomobileRiskApplication {
 
@@ -2,7 +2,9 @@ package com.example.automobile_risk.controller;
 
 import com.example.automobile_risk.dto.LoginRequest;
 import com.example.automobile_risk.dto.LoginResponse;
+import com.example.automobile_risk.security.JwtAuthenticationFilter;
 import com.example.automobile_risk.service.AuthService;
+import com.example.automobile_risk.service.dto.AuthFilterStats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody LoginRequest request) {
@@ -31,4 +34,12 @@ public class AuthController {
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.login(request));
     }
+
+    /**
+     * 인증 필터 결과별 누적 카운터
+     */
+    @GetMapping("/filter-stats")
+    public ResponseEntity<AuthFilterStats> filterStats() {
+        return ResponseEntity.ok(jwtAuthenticationFilter.getStats());
+    }
 }
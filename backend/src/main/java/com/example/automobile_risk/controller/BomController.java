@@ -2,9 +2,12 @@ package com.example.automobile_risk.controller;
 
 import com.example.automobile_risk.controller.dto.BomCreateForm;
 import com.example.automobile_risk.controller.dto.BomUpdateForm;
+import com.example.automobile_risk.controller.dto.MrpWhatIfForm;
 import com.example.automobile_risk.service.BomService;
+import com.example.automobile_risk.service.MrpService;
 import com.example.automobile_risk.service.dto.BomDetailResponse;
 import com.example.automobile_risk.service.dto.BomListResponse;
+import com.example.automobile_risk.service.dto.MrpResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +22,7 @@ import java.util.List;
 public class BomController {
 
     private final BomService bomService;
+    private final MrpService mrpService;
 
     /**
      *  1. BOM 등록
@@ -75,4 +79,26 @@ public class BomController {
 
         return ApiResponse.of(bomList);
     }
+
+    /**
+     *  6. 자재 소요량 (계획 생산 + 미할당 주문 기준)
+     *
+     *  GET /api/v1/bom/mrp
+     */
+    @GetMapping("/mrp")
+    public ApiResponse<MrpResponse> getMrp() {
+
+        return ApiResponse.of(mrpService.plan(List.of()));
+    }
+
+    /**
+     *  7. 자재 소요량 what-if (가상 생산 수량 추가)
+     *
+     *  POST /api/v1/bom/mrp/what-if
+     */
+    @PostMapping("/mrp/what-if")
+    public ApiResponse<MrpResponse> simulateMrp(@Valid @RequestBody MrpWhatIfForm form) {
+
+        return ApiResponse.of(mrpService.plan(form.getAdditionalDemand()));
+    }
 }
@@ -6,6 +6,10 @@ import com.example.automobile_risk.service.dto.DefectSummaryResponse;
 import com.example.automobile_risk.service.dto.ProcessEventResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -20,11 +24,18 @@ public class DefectSummaryController {
     private final DefectSummaryService defectSummaryService;
 
     /**
-     * 완료된 생산 목록 + 결함 요약 리스트 조회
+     * 완료된 생산 목록 + 결함 요약 리스트 조회 (페이징)
      */
     @GetMapping
-    public ApiResponse<List<DefectSummaryResponse>> getDefectSummaries() {
-        List<DefectSummaryResponse> summaries = defectSummaryService.getCompletedProductionSummaries();
+    public ApiResponse<Page<DefectSummaryResponse>> getDefectSummaries(
+            @PageableDefault(
+                    page = 0,
+                    size = 20,
+                    sort = "endDate",
+                    direction = Sort.Direction.DESC
+            ) Pageable pageable
+    ) {
+        Page<DefectSummaryResponse> summaries = defectSummaryService.getCompletedProductionSummaries(pageable);
         return ApiResponse.of(summaries);
     }
 
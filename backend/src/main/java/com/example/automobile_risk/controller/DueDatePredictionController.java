@@ -2,7 +2,10 @@ package com.example.automobile_risk.controller;
 
 import com.example.automobile_risk.service.DueDatePredictionService;
 import com.example.automobile_risk.service.DueDatePredictionSseService;
+import com.example.automobile_risk.service.DueDatePredictionTriggerQueue;
+import com.example.automobile_risk.service.dto.DueDatePredictionPayloadResponse;
 import com.example.automobile_risk.service.dto.DueDatePredictionResponse;
+import com.example.automobile_risk.service.dto.DueDatePredictionTriggerStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -20,13 +23,31 @@ public class DueDatePredictionController {
 
     private final DueDatePredictionService dueDatePredictionService;
     private final DueDatePredictionSseService dueDatePredictionSseService;
+    private final DueDatePredictionTriggerQueue dueDatePredictionTriggerQueue;
 
     @GetMapping("/latest")
     public ApiResponse<List<DueDatePredictionResponse>> latest(
-            @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit
+            @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit,
+            @RequestParam(value = "cursor", required = false) Long cursor
     ) {
         int safeLimit = Math.max(1, Math.min(limit, 200));
-        return ApiResponse.of(dueDatePredictionService.getLatestPerOrder(safeLimit));
+        return ApiResponse.of(dueDatePredictionService.getLatestPerOrder(cursor, safeLimit));
+    }
+
+    /**
+     * 감사용 원본 요청/응답 JSON 조회
+     */
+    @GetMapping("/{id}/payload")
+    public ApiResponse<DueDatePredictionPayloadResponse> payload(@PathVariable("id") Long id) {
+        return ApiResponse.of(dueDatePredictionService.getPayload(id));
+    }
+
+    /**
+     * 납기 예측 트리거 큐 카운터 (received / coalesced / executed / failed / pending)
+     */
+    @GetMapping("/trigger-stats")
+    public ApiResponse<DueDatePredictionTriggerStats> triggerStats() {
+        return ApiResponse.of(dueDatePredictionTriggerQueue.getStats());
     }
 
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
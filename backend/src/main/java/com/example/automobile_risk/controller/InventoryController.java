@@ -3,14 +3,19 @@ package com.example.automobile_risk.controller;
 import com.example.automobile_risk.controller.dto.InventoryAdjustForm;
 import com.example.automobile_risk.controller.dto.InventoryCreateForm;
 import com.example.automobile_risk.controller.dto.InventorySafetyForm;
+import com.example.automobile_risk.service.InventoryCheckpointService;
 import com.example.automobile_risk.service.InventoryService;
+import com.example.automobile_risk.service.dto.InventoryBalanceResponse;
+import com.example.automobile_risk.service.dto.InventoryHistoryCursorPage;
 import com.example.automobile_risk.service.dto.InventoryHistoryResponse;
 import com.example.automobile_risk.service.dto.InventoryResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -20,6 +25,7 @@ import java.util.List;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final InventoryCheckpointService inventoryCheckpointService;
 
     /**
      *  1. 재고 생성
@@ -56,11 +62,44 @@ public class InventoryController {
     }
 
     /**
-     *  4. 재고 이력 조회
+     *  4. 재고 이력 조회 (최신 limit 건)
      */
     @GetMapping("/{partId}/history")
-    public ApiResponse<List<InventoryHistoryResponse>> history(@PathVariable Long partId) {
-        return ApiResponse.of(inventoryService.getHistory(partId));
+    public ApiResponse<List<InventoryHistoryResponse>> history(
+            @PathVariable Long partId,
+            @RequestParam(defaultValue = "200") int limit
+    ) {
+        return ApiResponse.of(inventoryService.getHistory(partId, Math.min(Math.max(limit, 1), 1000)));
+    }
+
+    /**
+     *  4-1. 재고 이력 keyset 페이지
+     *
+     *  GET /api/v1/inventory/{partId}/history/page?limit=100
+     *  - 다음 페이지: cursorOccuredAt / cursorId 에 이전 응답의 nextOccuredAt / nextId 전달
+     */
+    @GetMapping("/{partId}/history/page")
+    public ApiResponse<InventoryHistoryCursorPage> historyPage(
+            @PathVariable Long partId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorOccuredAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ApiResponse.of(inventoryService.getHistoryPage(
+                partId, cursorOccuredAt, cursorId, Math.min(Math.max(limit, 1), 1000)));
+    }
+
+    /**
+     *  4-2. 시점 잔량 (체크포인트 + 구간 이력)
+     *
+     *  GET /api/v1/inventory/{partId}/balance?at=2025-01-01T00:00:00
+     */
+    @GetMapping("/{partId}/balance")
+    public ApiResponse<InventoryBalanceResponse> balance(
+            @PathVariable Long partId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        return ApiResponse.of(inventoryCheckpointService.getBalanceAt(partId, at));
     }
 
     /**
@@ -1,13 +1,21 @@
 package com.example.automobile_risk.controller;
 
+import com.example.automobile_risk.dto.PaintAnalysisCursorPage;
 import com.example.automobile_risk.dto.PaintAnalysisResponse;
+import com.example.automobile_risk.dto.PaintHourlyStatisticsResponse;
 import com.example.automobile_risk.dto.PaintStatisticsResponse;
 import com.example.automobile_risk.entity.PaintAnalysisResult;
 import com.example.automobile_risk.service.PaintAnalysisService;
+import com.example.automobile_risk.service.PaintStatisticsSseService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,16 +25,32 @@ import java.util.List;
 public class PaintAnalysisController {
     
     private final PaintAnalysisService paintAnalysisService;
+    private final PaintStatisticsSseService paintStatisticsSseService;
     
     /**
-     * 전체 분석 이력 조회
+     * 최근 분석 이력 조회 (최신 limit 건)
      */
     @GetMapping("/history")
-    public ResponseEntity<List<PaintAnalysisResponse>> getAnalysisHistory() {
-        List<PaintAnalysisResponse> history = paintAnalysisService.getAllAnalysisHistory();
+    public ResponseEntity<List<PaintAnalysisResponse>> getAnalysisHistory(
+            @RequestParam(defaultValue = "100") int limit) {
+        List<PaintAnalysisResponse> history =
+                paintAnalysisService.getAllAnalysisHistory(Math.min(Math.max(limit, 1), 1000));
         return ResponseEntity.ok(history);
     }
     
+    /**
+     * 분석 이력 keyset 페이지
+     * - 다음 페이지: cursorAnalyzedAt / cursorId 에 이전 응답의 nextAnalyzedAt / nextId 전달
+     */
+    @GetMapping("/history/page")
+    public ResponseEntity<PaintAnalysisCursorPage> getAnalysisHistoryPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAnalyzedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(paintAnalysisService.getAnalysisHistoryPage(
+                cursorAnalyzedAt, cursorId, Math.min(Math.max(limit, 1), 1000)));
+    }
+    
     /**
      * 특정 분석 결과 상세 조회
      */
@@ -46,6 +70,23 @@ public class PaintAnalysisController {
         return ResponseEntity.ok(statistics);
     }
     
+    /**
+     * 최근 n 시간 시간대별 통계
+     */
+    @GetMapping("/statistics/hourly")
+    public ResponseEntity<List<PaintHourlyStatisticsResponse>> getHourlyStatistics(
+            @RequestParam(defaultValue = "24") int hours) {
+        return ResponseEntity.ok(paintAnalysisService.getHourlyStatistics(Math.min(Math.max(hours, 1), 48)));
+    }
+    
+    /**
+     * 오늘의 통계 SSE (변경 시 최대 1초 간격)
+     */
+    @GetMapping(value = "/statistics/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatistics() {
+        return paintStatisticsSseService.subscribe(paintAnalysisService.getTodayStatistics());
+    }
+    
     /**
      * 분석 결과 저장 (Python ML 서비스에서 호출)
      */
@@ -56,4 +97,24 @@ public class PaintAnalysisController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.status(500).build());
     }
+    
+    /**
+     * 분석 결과 대량 저장 (JSON 배열) → 생성된 id 목록 (입력 순서)
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Long>> saveBulk(@RequestBody List<PaintAnalysisResult> results) {
+        return ResponseEntity.ok(paintAnalysisService.saveBulk(results));
+    }
+    
+    /**
+     * 분석 결과 대량 저장 (NDJSON 스트림, 청크마다 커밋) → 생성된 id 목록 (입력 순서)
+     * - 실패 시 400 + committedRows / resumeFromLine → 같은 파일을 fromLine=resumeFromLine 으로 다시 보내면 이어서 적재
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<List<Long>> saveBulkNdjson(
+            InputStream body,
+            @RequestParam(defaultValue = "1") long fromLine
+    ) {
+        return ResponseEntity.ok(paintAnalysisService.saveBulkNdjson(body, fromLine));
+    }
 }
@@ -1,15 +1,28 @@
 package com.example.automobile_risk.controller;
 
 import com.example.automobile_risk.controller.dto.SensorDataCreateForm;
+import com.example.automobile_risk.service.SensorDataExportService;
+import com.example.automobile_risk.service.SensorDataRollupService;
 import com.example.automobile_risk.service.SensorDataService;
+import com.example.automobile_risk.service.SensorLiveBuffer;
+import com.example.automobile_risk.service.SensorLiveSseService;
+import com.example.automobile_risk.service.dto.SensorDataBucketResponse;
+import com.example.automobile_risk.service.dto.SensorDataCursorPage;
 import com.example.automobile_risk.service.dto.SensorDataDetailResponse;
 import com.example.automobile_risk.service.dto.SensorDataListResponse;
+import com.example.automobile_risk.service.dto.SensorLiveSample;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,6 +33,10 @@ import java.util.List;
 public class SensorDataController {
 
     private final SensorDataService sensorDataService;
+    private final SensorDataRollupService sensorDataRollupService;
+    private final SensorDataExportService sensorDataExportService;
+    private final SensorLiveBuffer sensorLiveBuffer;
+    private final SensorLiveSseService sensorLiveSseService;
 
     /**
      *  1. 생성
@@ -32,6 +49,36 @@ public class SensorDataController {
         return ApiResponse.of(sensorDataId);
     }
 
+    /**
+     *  1-1. 대량 생성 (JSON 배열)
+     *
+     *  POST /api/v1/sensor-data/bulk
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<Integer> createBulk(@RequestBody List<SensorDataCreateForm> forms) {
+
+        int inserted = sensorDataService.createBulk(forms);
+
+        return ApiResponse.of(inserted);
+    }
+
+    /**
+     *  1-2. 대량 생성 (NDJSON 스트림, 청크마다 커밋)
+     *
+     *  POST /api/v1/sensor-data/bulk?fromLine=1  (Content-Type: application/x-ndjson)
+     *  - 실패 시 400 + committedRows / resumeFromLine → 같은 파일을 fromLine=resumeFromLine 으로 다시 보내면 이어서 적재
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ApiResponse<Integer> createBulkNdjson(
+            InputStream body,
+            @RequestParam(defaultValue = "1") long fromLine
+    ) {
+
+        int inserted = sensorDataService.createBulkNdjson(body, fromLine);
+
+        return ApiResponse.of(inserted);
+    }
+
 //    /**
 //     *  2. 수정
 //     */
@@ -80,17 +127,19 @@ public class SensorDataController {
     /**
      *  1. 센서별 + 기간 조회
      *
-     *  GET /api/v1/sensor-data/by-sensor
+     *  GET /api/v1/sensor-data/by-sensor?sensorId=..&from=..&to=..&limit=10000
+     *  - 측정 시각순 앞에서부터 최대 limit 개 (1 ~ 10000)
      */
     @GetMapping("/by-sensor")
     public ApiResponse<List<SensorDataListResponse>> getBySensorAndPeriod(
             @RequestParam Long sensorId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "10000") int limit
     ) {
 
         List<SensorDataListResponse> list =
-                sensorDataService.getBySensorAndPeriod(sensorId, from, to);
+                sensorDataService.getBySensorAndPeriod(sensorId, from, to, Math.min(Math.max(limit, 1), 10_000));
 
         return ApiResponse.of(list);
     }
@@ -98,18 +147,119 @@ public class SensorDataController {
     /**
      *  2. 설비별 + 기간 조회
      *
-     *  GET /api/v1/sensor-data/by-equipment
+     *  GET /api/v1/sensor-data/by-equipment?equipmentId=..&from=..&to=..&limit=10000
+     *  - 측정 시각순 앞에서부터 최대 limit 개 (1 ~ 10000), 전체 구간은 /by-equipment/page 로 이어서 조회
      */
     @GetMapping("/by-equipment")
     public ApiResponse<List<SensorDataListResponse>> getByEquipmentAndPeriod(
             @RequestParam Long equipmentId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "10000") int limit
     ) {
 
         List<SensorDataListResponse> list =
-                sensorDataService.getByEquipmentAndPeriod(equipmentId, from, to);
+                sensorDataService.getByEquipmentAndPeriod(equipmentId, from, to, Math.min(Math.max(limit, 1), 10_000));
 
         return ApiResponse.of(list);
     }
+
+    /**
+     *  2-1. 설비별 + 기간 keyset 페이지 (측정 시각순)
+     *
+     *  GET /api/v1/sensor-data/by-equipment/page?equipmentId=..&from=..&to=..&limit=1000
+     *  - 다음 페이지: cursorMeasuredAt / cursorId 에 이전 응답의 nextMeasuredAt / nextId 전달
+     */
+    @GetMapping("/by-equipment/page")
+    public ApiResponse<SensorDataCursorPage> getByEquipmentPage(
+            @RequestParam Long equipmentId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorMeasuredAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+
+        SensorDataCursorPage page = sensorDataService.getByEquipmentPage(
+                equipmentId, from, to, cursorMeasuredAt, cursorId, Math.min(Math.max(limit, 1), 10_000));
+
+        return ApiResponse.of(page);
+    }
+
+    /**
+     *  3. 센서별 + 기간 구간 집계 (차트용)
+     *
+     *  GET /api/v1/sensor-data/series
+     *  - bucketSeconds 미지정 시 maxPoints 에 맞춰 자동 결정
+     *  - lttb=true 이면 LTTB 다운샘플링
+     *  - maxPoints 는 3 ~ 10000 (LTTB 는 양 끝점 + 1 개 이상이 필요)
+     */
+    @GetMapping("/series")
+    public ApiResponse<List<SensorDataBucketResponse>> getSeries(
+            @RequestParam Long sensorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer bucketSeconds,
+            @RequestParam(defaultValue = "1000") int maxPoints,
+            @RequestParam(defaultValue = "false") boolean lttb
+    ) {
+
+        List<SensorDataBucketResponse> series = sensorDataRollupService.getSeries(
+                sensorId, from, to, bucketSeconds, Math.min(Math.max(maxPoints, 3), 10_000), lttb);
+
+        return ApiResponse.of(series);
+    }
+
+    /**
+     *  4. 기간 측정값 내보내기 (스트리밍)
+     *
+     *  GET /api/v1/sensor-data/export?sensorId=..|equipmentId=..&from=..&to=..&format=ndjson|csv
+     */
+    @GetMapping("/export")
+    public void export(
+            @RequestParam(required = false) Long sensorId,
+            @RequestParam(required = false) Long equipmentId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = SensorDataExportService.FORMAT_NDJSON) String format,
+            HttpServletResponse response
+    ) throws IOException {
+
+        sensorDataExportService.validate(sensorId, equipmentId, from, to, format);
+
+        boolean csv = SensorDataExportService.FORMAT_CSV.equals(format);
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"sensor-data." + format + "\"");
+
+        long rows = sensorDataExportService.export(sensorId, equipmentId, from, to, format, response.getOutputStream());
+        log.info("[SensorData export] sensorId={}, equipmentId={}, rows={}", sensorId, equipmentId, rows);
+    }
+
+    /**
+     *  5. 실시간 최근 측정값 (메모리 버퍼, DB 조회 없음)
+     *
+     *  GET /api/v1/sensor-data/live?sensorId=..&seconds=300
+     */
+    @GetMapping("/live")
+    public ApiResponse<List<SensorLiveSample>> getLive(
+            @RequestParam Long sensorId,
+            @RequestParam(defaultValue = "300") long seconds,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+
+        List<SensorLiveSample> samples = sensorLiveBuffer.recent(sensorId, seconds, limit);
+
+        return ApiResponse.of(samples);
+    }
+
+    /**
+     *  6. 신규 측정값 SSE 스트림 (sensorId 미지정 시 전체 센서)
+     *
+     *  GET /api/v1/sensor-data/live/stream
+     */
+    @GetMapping(value = "/live/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLive(@RequestParam(required = false) Long sensorId) {
+        return sensorLiveSseService.subscribe(sensorId);
+    }
 }
@@ -0,0 +1,33 @@
+package com.example.automobile_risk.controller.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpWhatIfForm {
+
+    // 기존 수요에 더할 가상 생산 (차량 모델 / 수량)
+    @Valid
+    private List<Item> additionalDemand = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull
+        private Long vehicleModelId;
+
+        @Positive
+        private int qty;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.automobile_risk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 이력 최신순 keyset 페이지 (다음 요청 시 nextAnalyzedAt / nextId 를 cursor 로 전달)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaintAnalysisCursorPage {
+    private List<PaintAnalysisResponse> content;
+    private boolean hasNext;
+    private LocalDateTime nextAnalyzedAt;
+    private Long nextId;
+}
@@ -0,0 +1,15 @@
+package com.example.automobile_risk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaintHourlyStatisticsResponse {
+    private LocalDateTime hour;
+    private PaintStatisticsResponse statistics;
+}
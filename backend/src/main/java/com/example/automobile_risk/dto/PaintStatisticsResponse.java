@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,4 +18,5 @@ public class PaintStatisticsResponse {
     private Double defectRate;
     private Double passRate;
     private Double avgConfidence;
+    private Map<String, Long> defectCountByClass;
 }
@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
-@Table(name = "defect_summary_snapshots")
+@Table(name = "defect_summary_snapshots", indexes = {
+        @Index(name = "idx_defect_summary_snapshots_production_captured", columnList = "production_id, captured_at DESC")
+})
 @Entity
 public class DefectSummarySnapshot extends BaseTimeEntity {
 
@@ -35,10 +37,21 @@ public class DefectSummarySnapshot extends BaseTimeEntity {
 
     private String overallStatus;
 
+    // 공정별 결함 건수 (조회 시 JSON 파싱 없이 바로 사용)
+    // - 컬럼 추가 이전에 저장된 스냅샷은 null → processSummariesJson 으로 대체
+    private Integer pressDefectCount;
+    private Integer weldDefectCount;
+    private Integer paintDefectCount;
+    private Integer assemblyDefectCount;
+    private Integer inspectionDefectCount;
+
     @Lob
     @Column(columnDefinition = "TEXT")
     private String processSummariesJson;
 
+    /**
+     *  결함 요약 스냅샷 생성
+     */
     public static DefectSummarySnapshot create(
             Production production,
             Order order,
@@ -46,6 +59,11 @@ public class DefectSummarySnapshot extends BaseTimeEntity {
             LocalDateTime capturedAt,
             int totalDefectCount,
             String overallStatus,
+            int pressDefectCount,
+            int weldDefectCount,
+            int paintDefectCount,
+            int assemblyDefectCount,
+            int inspectionDefectCount,
             String processSummariesJson
     ) {
         return DefectSummarySnapshot.builder()
@@ -55,7 +73,23 @@ public class DefectSummarySnapshot extends BaseTimeEntity {
                 .capturedAt(capturedAt)
                 .totalDefectCount(totalDefectCount)
                 .overallStatus(overallStatus)
+                .pressDefectCount(pressDefectCount)
+                .weldDefectCount(weldDefectCount)
+                .paintDefectCount(paintDefectCount)
+                .assemblyDefectCount(assemblyDefectCount)
+                .inspectionDefectCount(inspectionDefectCount)
                 .processSummariesJson(processSummariesJson)
                 .build();
     }
+
+    /**
+     *  공정별 결함 건수 컬럼이 채워진 스냅샷인지 (false 면 JSON 만 있는 이전 스냅샷)
+     */
+    public boolean hasProcessDefectCounts() {
+        return pressDefectCount != null
+                && weldDefectCount != null
+                && paintDefectCount != null
+                && assemblyDefectCount != null
+                && inspectionDefectCount != null;
+    }
 }
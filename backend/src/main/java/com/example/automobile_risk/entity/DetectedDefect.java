@@ -8,14 +8,19 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "detected_defects")
+@Table(name = "detected_defects", indexes = {
+        @Index(name = "idx_detected_defects_result_id", columnList = "result_id"),
+        @Index(name = "idx_detected_defects_detected_at", columnList = "detected_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class DetectedDefect {
     
+    // 대량 적재(PaintAnalysisJdbcRepository)와 같은 시퀀스 / 블록 크기 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "detected_defects_seq")
+    @SequenceGenerator(name = "detected_defects_seq", sequenceName = "detected_defects_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "result_id", nullable = false)
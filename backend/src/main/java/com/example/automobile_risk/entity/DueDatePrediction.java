@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "due_date_predictions")
+@Table(name = "due_date_predictions", indexes = {
+        @Index(name = "idx_due_date_predictions_order_id", columnList = "order_id, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,9 +39,5 @@ public class DueDatePrediction extends BaseTimeEntity {
     private Double delayProbability;
     private Double predictedDelayMinutes;
 
-    @Column(columnDefinition = "TEXT")
-    private String requestJson;
-
-    @Column(columnDefinition = "TEXT")
-    private String responseJson;
+    // 원본 요청/응답 JSON 은 DueDatePredictionPayload 에 분리 저장
 }
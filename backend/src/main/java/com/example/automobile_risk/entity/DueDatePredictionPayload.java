@@ -0,0 +1,35 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * DueDatePrediction 원본 요청/응답 JSON (감사용 cold 테이블)
+ * - 예측 조회 경로(due_date_predictions)에는 타입 컬럼만 두고, 원본은 여기에 분리 저장
+ * - 보존 기간이 지나면 DueDatePredictionService 가 주기적으로 삭제
+ */
+@Entity
+@Table(name = "due_date_prediction_payloads", indexes = {
+        @Index(name = "idx_due_date_prediction_payloads_prediction_id", columnList = "prediction_id", unique = true),
+        @Index(name = "idx_due_date_prediction_payloads_created_date", columnList = "created_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DueDatePredictionPayload extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "prediction_id", nullable = false)
+    private Long predictionId;
+
+    @Column(columnDefinition = "TEXT")
+    private String requestJson;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseJson;
+}
@@ -0,0 +1,35 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 더미 데이터 생성 청크 완료 기록
+ * - 청크 데이터와 같은 트랜잭션에서 기록 → 같은 실행 키로 다시 돌리면 완료된 청크는 건너뜀
+ * - runKey = rows / lateRate / seed / chunkSize (청크 경계와 시드가 같아야 이어서 생성 가능)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "dummy_data_chunks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dummy_data_chunks_run_chunk", columnNames = {"run_key", "chunk_index"})
+})
+@Entity
+public class DummyDataChunk {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dummy_data_chunk_id")
+    private Long id;
+
+    @Column(name = "run_key", nullable = false)
+    private String runKey;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    private int rowCount;
+
+    private LocalDateTime completedAt;
+}
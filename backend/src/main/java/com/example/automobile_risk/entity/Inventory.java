@@ -3,11 +3,13 @@ package com.example.automobile_risk.entity;
 import com.example.automobile_risk.entity.enumclass.InventoryStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
+@DynamicUpdate  // current_qty 는 재고 원장 반영 작업이 갱신하므로 변경된 컬럼만 update
 @Entity
 public class Inventory extends BaseTimeEntity {
 
@@ -48,14 +50,6 @@ public class Inventory extends BaseTimeEntity {
                 .build();
     }
 
-    public void adjust(int qty) {
-        if (currentQty + qty < 0) {
-            throw new IllegalStateException("재고 부족");
-        }
-
-        this.currentQty += qty;
-    }
-
     public void updateSafetyQty(int safetyQty) {
         if (safetyQty < 0) {
             throw new IllegalArgumentException("안전 재고는 0 이상이어야 합니다.");
@@ -0,0 +1,33 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 부품별 재고 잔량 체크포인트
+ * - checkpointAt 시점까지의 이력(계획 제외) 누적 합계
+ * - 임의 시점 잔량 = 직전 체크포인트 + 그 이후 이력 합계 (전체 이력 재생 없음)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "inventory_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_inventory_checkpoints_part_at", columnNames = {"part_id", "checkpoint_at"})
+})
+@Entity
+public class InventoryCheckpoint {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inventory_checkpoint_id")
+    private Long id;
+
+    @Column(name = "part_id", nullable = false)
+    private Long partId;
+
+    @Column(name = "checkpoint_at", nullable = false)
+    private LocalDateTime checkpointAt;
+
+    private long balance;
+}
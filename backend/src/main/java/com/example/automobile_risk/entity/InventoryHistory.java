@@ -10,6 +10,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
+@Table(name = "inventory_history", indexes = {
+        @Index(name = "idx_inventory_history_reconciled_part", columnList = "reconciled, part_id"),
+        @Index(name = "idx_inventory_history_part_occured", columnList = "part_id, occured_at desc, inventory_history_id desc")
+})
 @Entity
 public class InventoryHistory extends BaseTimeEntity {
 
@@ -36,6 +40,11 @@ public class InventoryHistory extends BaseTimeEntity {
     @Column(length = 500)
     private String remark;
 
+    // Inventory.currentQty 에 반영되었는지 (재고 원장 경로로 기록된 이력만 false 로 시작)
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean reconciled = true;
+
     /**
      *  ========================================
      *  비즈니스 로직
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "ml_analysis_results")
+@Table(name = "ml_analysis_results", indexes = {
+        @Index(name = "idx_ml_analysis_results_order_process_created", columnList = "order_id, process_name, created_date DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
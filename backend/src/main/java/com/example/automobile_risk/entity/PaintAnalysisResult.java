@@ -9,14 +9,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "paint_analysis_results")
+@Table(name = "paint_analysis_results", indexes = {
+        @Index(name = "idx_paint_analysis_results_analyzed_at", columnList = "analyzed_at desc, id desc")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class PaintAnalysisResult {
     
+    // 대량 적재(PaintAnalysisJdbcRepository)와 같은 시퀀스 / 블록 크기 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "paint_analysis_results_seq")
+    @SequenceGenerator(name = "paint_analysis_results_seq", sequenceName = "paint_analysis_results_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "result_id", unique = true, nullable = false)
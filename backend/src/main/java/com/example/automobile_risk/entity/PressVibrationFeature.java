@@ -0,0 +1,52 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프레스 진동 시계열 특징량 (공정수행 단위)
+ * - PressFeatureAggregationService 가 설비의 진동 센서 하나의 데이터 구간에서 계산
+ * - 프레스 진동 모델 호출 시 요청 본문으로 사용
+ */
+@Entity
+@Table(name = "press_vibration_features", indexes = {
+        @Index(name = "idx_press_vibration_features_process_execution_id", columnList = "process_execution_id", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PressVibrationFeature extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "process_execution_id", nullable = false)
+    private Long processExecutionId;
+
+    private Long equipmentId;
+
+    private Long sensorId;
+
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+
+    private int sampleCount;
+    private double sampleRateHz;
+
+    private double mean;
+    private double rms;
+    private double peak;
+    private double crestFactor;
+    private double kurtosis;
+
+    // 0 ~ Nyquist 를 4등분한 대역별 에너지 (저 → 고)
+    private double bandEnergy1;
+    private double bandEnergy2;
+    private double bandEnergy3;
+    private double bandEnergy4;
+}
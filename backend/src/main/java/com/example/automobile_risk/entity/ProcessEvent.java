@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
-@Table(name = "process_events")
+@Table(name = "process_events", indexes = {
+        @Index(name = "idx_process_events_order_process", columnList = "order_id, process")
+})
 @Entity
 public class ProcessEvent extends BaseTimeEntity {
 
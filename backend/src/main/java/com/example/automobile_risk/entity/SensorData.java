@@ -9,14 +9,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
+// 운영(PostgreSQL)에서는 SensorDataPartitionService 가 measured_at 일 단위 파티션 테이블로 교체
 @Table(indexes = {
-        @Index(name = "idx_sensor_data_sensor", columnList = "sensor_id"),
-        @Index(name = "idx_sensor_data_measured_at", columnList = "measuredAt")
+        @Index(name = "idx_sensor_data_sensor_measured_at", columnList = "sensor_id, measuredAt")
 })
 @Entity
 public class SensorData extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 대량 수집(SensorDataJdbcRepository)과 id 블록을 공유하도록 pooled 시퀀스 사용
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sensor_data_seq")
+    @SequenceGenerator(name = "sensor_data_seq", sequenceName = "sensor_data_seq", allocationSize = 50)
     @Column(name = "sensor_data_id")
     private Long id;
 
@@ -0,0 +1,29 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 센서 아카이브 세대 (단일 행)
+ * - 스키마를 새로 만들면(ddl-auto=create) 이 행도 사라지고 sensor_id / sensor_data_id 가 다시 발급된다
+ *   → 아카이브 파일은 {dir}/{epoch} 아래에만 두어 이전 스키마의 파일을 읽지 않는다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sensor_data_archive_epoch")
+@Entity
+public class SensorDataArchiveEpoch {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "sensor_data_archive_epoch_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String epoch;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 센서 측정값 구간 집계 (1분 / 1시간 rollup)
+ * - 수집 시 SensorDataRollupService 가 upsert 로 누적
+ * - 기간 차트 조회는 원본 대신 이 테이블을 읽는다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "sensor_data_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sensor_data_rollups_bucket", columnNames = {"sensor_id", "bucket_seconds", "bucket_start"})
+})
+@Entity
+public class SensorDataRollup {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sensor_data_rollup_id")
+    private Long id;
+
+    @Column(name = "sensor_id", nullable = false)
+    private Long sensorId;
+
+    // 구간 폭 (60 = 1분, 3600 = 1시간)
+    @Column(name = "bucket_seconds", nullable = false)
+    private int bucketSeconds;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private double minValue;
+    private double maxValue;
+    private double sumValue;
+    private long sampleCount;
+
+    private double lastValue;
+    private LocalDateTime lastMeasuredAt;
+}
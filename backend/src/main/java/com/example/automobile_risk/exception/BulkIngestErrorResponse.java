@@ -0,0 +1,16 @@
+package com.example.automobile_risk.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIngestErrorResponse {
+
+    private String status;
+    private String message;
+    private long committedRows;
+    private long resumeFromLine;
+}
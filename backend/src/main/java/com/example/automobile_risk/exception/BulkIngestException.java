@@ -0,0 +1,24 @@
+package com.example.automobile_risk.exception;
+
+import lombok.Getter;
+
+/**
+ * NDJSON 대량 적재 중간 실패
+ * - 청크 단위로 커밋하므로 실패 시점까지 커밋된 건수 / 다시 보낼 시작 줄을 함께 전달
+ */
+@Getter
+public class BulkIngestException extends RuntimeException {
+
+    // 실패 전까지 커밋된 행 수
+    private final long committedRows;
+
+    // 커밋되지 않은 첫 줄 번호 (1부터) → 이 줄부터 다시 보내면 이어서 적재
+    private final long resumeFromLine;
+
+    public BulkIngestException(long committedRows, long resumeFromLine, Throwable cause) {
+        super(String.format("대량 적재 실패: %d줄부터 다시 보내야 합니다 (커밋된 행 %d건). 원인: %s",
+                resumeFromLine, committedRows, cause.getMessage()), cause);
+        this.committedRows = committedRows;
+        this.resumeFromLine = resumeFromLine;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.automobile_risk.exception;
 
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -40,4 +41,12 @@ public class ExceptionControllerAdvice {
 
         return new ErrorResponse("Duplicate Bom", e.getMessage());
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BulkIngestException.class)
+    public BulkIngestErrorResponse bulkIngestExceptionHandler(BulkIngestException e) {
+        log.error("ExceptionHandler : {}", e);
+
+        return new BulkIngestErrorResponse("Bulk Ingest Failed", e.getMessage(), e.getCommittedRows(), e.getResumeFromLine());
+    }
 }
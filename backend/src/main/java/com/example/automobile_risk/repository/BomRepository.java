@@ -4,6 +4,8 @@ import com.example.automobile_risk.entity.Bom;
 import com.example.automobile_risk.entity.Part;
 import com.example.automobile_risk.entity.VehicleModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +14,13 @@ public interface BomRepository extends JpaRepository<Bom, Long> {
     boolean existsByVehicleModelAndPart(VehicleModel vehicleModel, Part part);
 
     List<Bom> findByVehicleModel(VehicleModel vehicleModel);
+
+    @Query("""
+        select b
+        from Bom b
+        join fetch b.part
+        where b.vehicleModel.id = :vehicleModelId
+        order by b.part.id
+    """)
+    List<Bom> findWithPartByVehicleModelId(@Param("vehicleModelId") Long vehicleModelId);
 }
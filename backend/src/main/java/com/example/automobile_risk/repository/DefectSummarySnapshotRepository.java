@@ -1,13 +1,39 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.DefectSummarySnapshot;
+import com.example.automobile_risk.entity.enumclass.DefectSnapshotStage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface DefectSummarySnapshotRepository extends JpaRepository<DefectSummarySnapshot, Long> {
 
     List<DefectSummarySnapshot> findAllByOrderByCapturedAtDesc();
 
     List<DefectSummarySnapshot> findByProductionIdOrderByCapturedAtDesc(Long productionId);
+
+    Optional<DefectSummarySnapshot> findFirstByProductionIdAndStageOrderByCapturedAtDescIdDesc(
+            Long productionId, DefectSnapshotStage stage);
+
+    /**
+     * 생산별 최신 스냅샷 일괄 조회 (production_id, captured_at desc 인덱스 사용)
+     * 동일 capturedAt 스냅샷이 여러 건이면 모두 반환되므로 호출 측에서 정리한다.
+     */
+    @Query("""
+        select s from DefectSummarySnapshot s
+        where s.production.id in :productionIds
+          and s.stage = :stage
+          and s.capturedAt = (
+              select max(s2.capturedAt) from DefectSummarySnapshot s2
+              where s2.production.id = s.production.id
+                and s2.stage = :stage
+          )
+    """)
+    List<DefectSummarySnapshot> findLatestByProductionIdIn(
+            @Param("productionIds") Collection<Long> productionIds,
+            @Param("stage") DefectSnapshotStage stage);
 }
@@ -3,9 +3,11 @@ package com.example.automobile_risk.repository;
 import com.example.automobile_risk.entity.DetectedDefect;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,9 +15,22 @@ public interface DetectedDefectRepository extends JpaRepository<DetectedDefect,
     
     List<DetectedDefect> findByResultId(String resultId);
     
+    List<DetectedDefect> findByResultIdIn(Collection<String> resultIds);
+    
     @Query("SELECT COUNT(d) FROM DetectedDefect d WHERE d.detectedAt >= :startDate")
     Long countByDetectedAtAfter(LocalDateTime startDate);
     
     @Query("SELECT d.defectClass, COUNT(d) FROM DetectedDefect d WHERE d.detectedAt >= :startDate GROUP BY d.defectClass")
     List<Object[]> countByDefectTypeAfter(LocalDateTime startDate);
+    
+    /**
+     * from 이후 시간 구간 / 결함 유형별 건수 [hour, defectClass, count]
+     */
+    @Query(value = """
+        SELECT date_trunc('hour', d.detected_at), d.defect_class, COUNT(*)
+        FROM detected_defects d
+        WHERE d.detected_at >= :from
+        GROUP BY 1, 2
+    """, nativeQuery = true)
+    List<Object[]> countByHourAndDefectClassSince(@Param("from") LocalDateTime from);
 }
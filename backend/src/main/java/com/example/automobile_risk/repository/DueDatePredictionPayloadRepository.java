@@ -0,0 +1,18 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.DueDatePredictionPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface DueDatePredictionPayloadRepository extends JpaRepository<DueDatePredictionPayload, Long> {
+    Optional<DueDatePredictionPayload> findByPredictionId(Long predictionId);
+
+    @Modifying
+    @Query("delete from DueDatePredictionPayload p where p.createdDate < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
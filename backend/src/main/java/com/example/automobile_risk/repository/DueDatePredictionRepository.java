@@ -1,12 +1,30 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.DueDatePrediction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface DueDatePredictionRepository extends JpaRepository<DueDatePrediction, Long> {
-    List<DueDatePrediction> findAllByOrderByIdDesc();
     Optional<DueDatePrediction> findTopByOrderIdOrderByIdDesc(Long orderId);
+
+    /**
+     * 주문별 최신 예측만 id 내림차순으로 조회 (keyset: cursorId 미만)
+     * (order_id, id desc) 인덱스로 주문별 max(id)를 바로 찾는다.
+     */
+    @Query("""
+        select p from DueDatePrediction p
+        where p.orderId is not null
+          and (:cursorId is null or p.id < :cursorId)
+          and p.id = (
+              select max(p2.id) from DueDatePrediction p2
+              where p2.orderId = p.orderId
+          )
+        order by p.id desc
+    """)
+    List<DueDatePrediction> findLatestPerOrder(@Param("cursorId") Long cursorId, Pageable pageable);
 }
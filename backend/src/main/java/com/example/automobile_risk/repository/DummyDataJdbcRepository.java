@@ -0,0 +1,249 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.DelayTrainingSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 더미 데이터 대량 적재 (JDBC batch insert)
+ *
+ * - orders / production / order_production / process_execution / delay_training_snapshot 은 IDENTITY 컬럼
+ *   → 적재 전에 identity 시퀀스에서 nextval 로 id 를 한 번에 받아 직접 지정 (generated by default)
+ * - 연관 id(orderId, productionId)를 미리 알 수 있으므로 저장 후 다시 읽지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class DummyDataJdbcRepository {
+
+    private static final String INSERT_ORDER_SQL = """
+            insert into orders (order_id, order_date, due_date, order_status, order_qty, vehicle_model_id,
+                                created_date, last_modified_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_PRODUCTION_SQL = """
+            insert into production (production_id, start_date, end_date, planned_qty, completed_qty,
+                                    production_status, vehicle_model_id, created_date, last_modified_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ORDER_PRODUCTION_SQL = """
+            insert into order_production (order_production_id, allocated_qty, order_id, production_id,
+                                          created_date, last_modified_date)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_PROCESS_EXECUTION_SQL = """
+            insert into process_execution (process_execution_id, start_date, end_date, execution_order, unit_index,
+                                           status, production_id, process_type_id, equipment_id,
+                                           created_date, last_modified_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_SNAPSHOT_SQL = """
+            insert into delay_training_snapshot (id, order_id, production_id, snapshot_stage, snapshot_time,
+                                                 order_date, due_date, production_start, elapsed_minutes,
+                                                 remaining_slack_minutes, order_qty,
+                                                 press_anomaly_score, weld_anomaly_score, paint_anomaly_score,
+                                                 assembly_anomaly_score, inspection_anomaly_score, stop_count_total,
+                                                 cumulative_delay_minutes, final_delay_minutes,
+                                                 remaining_delay_minutes, delay_flag)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * identity 컬럼의 시퀀스에서 id count 개 할당 (한 번의 조회)
+     */
+    public long[] allocateIds(String table, String idColumn, int count) {
+        if (count == 0) return new long[0];
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select nextval(pg_get_serial_sequence(?, ?)) from generate_series(1, ?)",
+                Long.class, table, idColumn, count);
+
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) result[i] = ids.get(i);
+        return result;
+    }
+
+    public void batchInsertOrders(List<OrderRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(INSERT_ORDER_SQL, rows.size(), (ps, i) -> {
+            OrderRow row = rows.get(i);
+            ps.setLong(1, row.orderId());
+            ps.setTimestamp(2, Timestamp.valueOf(row.orderDate()));
+            ps.setTimestamp(3, Timestamp.valueOf(row.dueDate()));
+            ps.setString(4, row.orderStatus());
+            ps.setInt(5, row.orderQty());
+            ps.setLong(6, row.vehicleModelId());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    public void batchInsertProductions(List<ProductionRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(INSERT_PRODUCTION_SQL, rows.size(), (ps, i) -> {
+            ProductionRow row = rows.get(i);
+            ps.setLong(1, row.productionId());
+            ps.setTimestamp(2, Timestamp.valueOf(row.startDate()));
+            ps.setTimestamp(3, Timestamp.valueOf(row.endDate()));
+            ps.setInt(4, row.plannedQty());
+            ps.setInt(5, row.completedQty());
+            ps.setString(6, row.productionStatus());
+            ps.setLong(7, row.vehicleModelId());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    public void batchInsertOrderProductions(List<OrderProductionRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(INSERT_ORDER_PRODUCTION_SQL, rows.size(), (ps, i) -> {
+            OrderProductionRow row = rows.get(i);
+            ps.setLong(1, row.orderProductionId());
+            ps.setInt(2, row.allocatedQty());
+            ps.setLong(3, row.orderId());
+            ps.setLong(4, row.productionId());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    public void batchInsertProcessExecutions(List<ProcessExecutionRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(INSERT_PROCESS_EXECUTION_SQL, rows.size(), (ps, i) -> {
+            ProcessExecutionRow row = rows.get(i);
+            ps.setLong(1, row.processExecutionId());
+            ps.setTimestamp(2, Timestamp.valueOf(row.startDate()));
+            ps.setTimestamp(3, Timestamp.valueOf(row.endDate()));
+            ps.setInt(4, row.executionOrder());
+            ps.setInt(5, row.unitIndex());
+            ps.setString(6, row.status());
+            ps.setLong(7, row.productionId());
+            ps.setLong(8, row.processTypeId());
+            ps.setLong(9, row.equipmentId());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    /**
+     * snapshot batch insert (ids[i] = snapshots[i] 의 id)
+     */
+    public void batchInsertSnapshots(List<DelayTrainingSnapshot> snapshots, long[] ids) {
+        batch(INSERT_SNAPSHOT_SQL, snapshots.size(), (ps, i) -> {
+            DelayTrainingSnapshot s = snapshots.get(i);
+            ps.setLong(1, ids[i]);
+            ps.setLong(2, s.getOrderId());
+            ps.setLong(3, s.getProductionId());
+            ps.setString(4, s.getSnapshotStage());
+            ps.setTimestamp(5, Timestamp.valueOf(s.getSnapshotTime()));
+            ps.setTimestamp(6, Timestamp.valueOf(s.getOrderDate()));
+            ps.setTimestamp(7, Timestamp.valueOf(s.getDueDate()));
+            ps.setTimestamp(8, Timestamp.valueOf(s.getProductionStart()));
+            ps.setLong(9, s.getElapsedMinutes());
+            ps.setLong(10, s.getRemainingSlackMinutes());
+            ps.setInt(11, s.getOrderQty());
+            setDouble(ps, 12, s.getPressAnomalyScore());
+            setDouble(ps, 13, s.getWeldAnomalyScore());
+            setDouble(ps, 14, s.getPaintAnomalyScore());
+            setDouble(ps, 15, s.getAssemblyAnomalyScore());
+            setDouble(ps, 16, s.getInspectionAnomalyScore());
+            ps.setInt(17, s.getStopCountTotal());
+            ps.setLong(18, s.getCumulativeDelayMinutes());
+            ps.setLong(19, s.getFinalDelayMinutes());
+            ps.setLong(20, s.getRemainingDelayMinutes());
+            ps.setInt(21, s.getDelayFlag());
+        });
+    }
+
+    /**
+     * 실행 키의 완료된 청크 번호
+     */
+    public Set<Integer> findCompletedChunks(String runKey) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select chunk_index from dummy_data_chunks where run_key = ?", Integer.class, runKey));
+    }
+
+    public void markChunkCompleted(String runKey, int chunkIndex, int rowCount) {
+        jdbcTemplate.update(
+                "insert into dummy_data_chunks (run_key, chunk_index, row_count, completed_at) values (?, ?, ?, ?)",
+                runKey, chunkIndex, rowCount, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private void batch(String sql, int size, RowSetter setter) {
+        if (size == 0) return;
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.set(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) ps.setDouble(index, value);
+        else ps.setNull(index, Types.DOUBLE);
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    public record OrderRow(
+            long orderId,
+            LocalDateTime orderDate,
+            LocalDateTime dueDate,
+            String orderStatus,
+            int orderQty,
+            long vehicleModelId
+    ) {
+    }
+
+    public record ProductionRow(
+            long productionId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int plannedQty,
+            int completedQty,
+            String productionStatus,
+            long vehicleModelId
+    ) {
+    }
+
+    public record OrderProductionRow(long orderProductionId, int allocatedQty, long orderId, long productionId) {
+    }
+
+    public record ProcessExecutionRow(
+            long processExecutionId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int executionOrder,
+            int unitIndex,
+            String status,
+            long productionId,
+            long processTypeId,
+            long equipmentId
+    ) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.automobile_risk.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 잔량 체크포인트 생성 / 시점 잔량 조회 (JDBC)
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryCheckpointJdbcRepository {
+
+    // 부품별 at 시점 체크포인트 (이미 있으면 건너뜀)
+    // - 직전 체크포인트가 있으면: 직전 잔량 + (직전 체크포인트, at] 구간 이력 합계
+    // - 없으면: 현재 수량(current_qty + 미반영 이력)에서 at 이후 이력을 뺀 값 (이력 이전의 초기 재고 포함)
+    private static final String CREATE_SQL = """
+            with p as (
+                select cast(? as timestamp) as at
+            ), last as (
+                select distinct on (c.part_id) c.part_id, c.checkpoint_at, c.balance
+                from inventory_checkpoints c, p
+                where c.checkpoint_at < p.at
+                order by c.part_id, c.checkpoint_at desc
+            ), delta as (
+                select h.part_id, sum(h.change_qty) as qty
+                from inventory_history h
+                join last l on l.part_id = h.part_id
+                cross join p
+                where h.occured_at > l.checkpoint_at
+                  and h.occured_at <= p.at
+                  and h.change_type not in ('IN_PLANNED', 'OUT_PLANNED')
+                group by h.part_id
+            ), anchor as (
+                select i.part_id,
+                       i.current_qty
+                           + coalesce(sum(h.change_qty) filter (where h.reconciled = false), 0)
+                           - coalesce(sum(h.change_qty) filter (where h.occured_at > p.at), 0) as balance
+                from inventory i
+                cross join p
+                left join inventory_history h
+                       on h.part_id = i.part_id
+                      and h.change_type not in ('IN_PLANNED', 'OUT_PLANNED')
+                where not exists (select 1 from last l where l.part_id = i.part_id)
+                group by i.part_id, i.current_qty
+            )
+            insert into inventory_checkpoints (part_id, checkpoint_at, balance)
+            select l.part_id, p.at, l.balance + coalesce(d.qty, 0)
+            from last l
+            cross join p
+            left join delta d on d.part_id = l.part_id
+            union all
+            select a.part_id, p.at, a.balance
+            from anchor a
+            cross join p
+            on conflict (part_id, checkpoint_at) do nothing
+            """;
+
+    // [직전 체크포인트 시각, 잔량]
+    // - 체크포인트가 없으면 시각 null, 잔량은 현재 수량(current_qty + 미반영 이력)에서 at 이후 이력을 뺀 값
+    private static final String BALANCE_SQL = """
+            select c.checkpoint_at,
+                   case
+                       when c.checkpoint_at is not null then c.balance + coalesce(sum(h.change_qty), 0)
+                       else coalesce((select i.current_qty from inventory i where i.part_id = p.part_id), 0)
+                            + coalesce(sum(h.change_qty) filter (where h.reconciled = false), 0)
+                            - coalesce(sum(h.change_qty) filter (where h.occured_at > p.at), 0)
+                   end
+            from (select cast(? as bigint) as part_id, cast(? as timestamp) as at) p
+            left join lateral (
+                select checkpoint_at, balance
+                from inventory_checkpoints
+                where part_id = p.part_id
+                  and checkpoint_at <= p.at
+                order by checkpoint_at desc
+                limit 1
+            ) c on true
+            left join inventory_history h
+                   on h.part_id = p.part_id
+                  and h.change_type not in ('IN_PLANNED', 'OUT_PLANNED')
+                  and (c.checkpoint_at is null or (h.occured_at > c.checkpoint_at and h.occured_at <= p.at))
+            group by p.part_id, p.at, c.checkpoint_at, c.balance
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 생성된 체크포인트 수
+     */
+    public int createCheckpoints(LocalDateTime at) {
+        return jdbcTemplate.update(CREATE_SQL, Timestamp.valueOf(at));
+    }
+
+    public BalanceRow balanceAt(long partId, LocalDateTime at) {
+        List<BalanceRow> rows = jdbcTemplate.query(BALANCE_SQL, (rs, rowNum) -> {
+            Timestamp checkpointAt = rs.getTimestamp(1);
+            return new BalanceRow(checkpointAt != null ? checkpointAt.toLocalDateTime() : null, rs.getLong(2));
+        }, partId, Timestamp.valueOf(at));
+        return rows.get(0);
+    }
+
+    public record BalanceRow(LocalDateTime checkpointAt, long balance) {
+    }
+}
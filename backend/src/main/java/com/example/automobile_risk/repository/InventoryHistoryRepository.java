@@ -1,11 +1,41 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.InventoryHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface InventoryHistoryRepository extends JpaRepository<InventoryHistory, Long> {
 
-    List<InventoryHistory> findByPartIdOrderByOccuredAtDesc(Long partId);
+    /**
+     * 최신순 첫 페이지 (part_id, occured_at desc, id desc 인덱스)
+     */
+    @Query("""
+        select h
+        from InventoryHistory h
+        where h.part.id = :partId
+        order by h.occuredAt desc, h.id desc
+    """)
+    List<InventoryHistory> findLatestByPartId(@Param("partId") Long partId, Pageable pageable);
+
+    /**
+     * cursor (occuredAt, id) 이전 페이지
+     */
+    @Query("""
+        select h
+        from InventoryHistory h
+        where h.part.id = :partId
+          and (h.occuredAt < :cursorAt or (h.occuredAt = :cursorAt and h.id < :cursorId))
+        order by h.occuredAt desc, h.id desc
+    """)
+    List<InventoryHistory> findByPartIdBefore(
+            @Param("partId") Long partId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,140 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.enumclass.InventoryChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 재고 원장 JDBC 접근
+ * - 원장 경로 이력(write-ahead) batch insert, 미반영 이력 주기 반영, 원장 적재
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryJdbcRepository {
+
+    private static final String INSERT_HISTORY_SQL = """
+            insert into inventory_history
+                (part_id, change_qty, after_qty, reference_id, reference_type, occured_at, change_type, remark,
+                 reconciled, created_date, last_modified_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)
+            """;
+
+    // 미반영 이력을 한 문장으로 반영 처리 + 부품별 합계를 current_qty 에 더함 (각 이력은 정확히 한 번만 반영)
+    private static final String FOLD_SQL = """
+            with folded as (
+                update inventory_history
+                set reconciled = true
+                where reconciled = false
+                returning part_id, change_qty, change_type
+            )
+            update inventory i
+            set current_qty = i.current_qty + f.delta, last_modified_date = now()
+            from (
+                select part_id, sum(change_qty) as delta
+                from folded
+                where change_type not in ('IN_PLANNED', 'OUT_PLANNED')
+                group by part_id
+            ) f
+            where i.part_id = f.part_id
+            """;
+
+    // 원장 적재: 반영된 수량 + 미반영 이력 합계
+    private static final String LEDGER_SQL = """
+            select i.inventory_id, i.part_id, p.part_name, i.current_qty + coalesce(h.delta, 0), i.safety_qty
+            from inventory i
+            join part p on p.part_id = i.part_id
+            left join (
+                select part_id, sum(change_qty) as delta
+                from inventory_history
+                where reconciled = false
+                  and change_type not in ('IN_PLANNED', 'OUT_PLANNED')
+                group by part_id
+            ) h on h.part_id = i.part_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 미반영 이력을 Inventory.currentQty 에 반영
+     *
+     * @return 갱신된 재고 행 수
+     */
+    public int foldUnreconciled() {
+        return jdbcTemplate.update(FOLD_SQL);
+    }
+
+    public List<LedgerRow> loadLedger() {
+        return jdbcTemplate.query(LEDGER_SQL, LEDGER_ROW_MAPPER);
+    }
+
+    public Optional<LedgerRow> loadLedger(Long partId) {
+        return jdbcTemplate.query(LEDGER_SQL + " where i.part_id = ?", LEDGER_ROW_MAPPER, partId)
+                .stream()
+                .findFirst();
+    }
+
+    public void batchInsertHistory(List<HistoryRow> rows) {
+        if (rows.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                HistoryRow row = rows.get(i);
+                ps.setLong(1, row.partId());
+                ps.setInt(2, row.changeQty());
+                ps.setInt(3, row.afterQty());
+                if (row.referenceId() != null) {
+                    ps.setLong(4, row.referenceId());
+                } else {
+                    ps.setNull(4, Types.BIGINT);
+                }
+                ps.setString(5, row.referenceType());
+                ps.setTimestamp(6, Timestamp.valueOf(row.occuredAt()));
+                ps.setString(7, row.changeType().name());
+                ps.setString(8, row.remark());
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private static final RowMapper<LedgerRow> LEDGER_ROW_MAPPER = (rs, rowNum) -> new LedgerRow(
+            rs.getLong(1),
+            rs.getLong(2),
+            rs.getString(3),
+            rs.getInt(4),
+            rs.getInt(5)
+    );
+
+    public record LedgerRow(long inventoryId, long partId, String partName, int currentQty, int safetyQty) {
+    }
+
+    public record HistoryRow(
+            long partId,
+            int changeQty,
+            int afterQty,
+            Long referenceId,
+            String referenceType,
+            LocalDateTime occuredAt,
+            InventoryChangeType changeType,
+            String remark
+    ) {
+    }
+}
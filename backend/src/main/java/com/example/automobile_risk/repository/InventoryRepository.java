@@ -2,10 +2,22 @@ package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
     Optional<Inventory> findByPartId(Long partId);
+
+    @Query("""
+        select i
+        from Inventory i
+        join fetch i.part
+        where i.part.id in :partIds
+    """)
+    List<Inventory> findAllWithPartByPartIdIn(@Param("partIds") Collection<Long> partIds);
 }
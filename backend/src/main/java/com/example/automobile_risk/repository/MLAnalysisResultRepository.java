@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -40,4 +41,26 @@ public interface MLAnalysisResultRepository extends JpaRepository<MLAnalysisResu
             @Param("processName") String processName,
             Pageable pageable
     );
+
+    /**
+     * 주문의 공정별 최근 N건에 대한 (공정명, 전체 건수, 이상 건수) 집계
+     * - 엔티티/additionalInfo 를 읽지 않고 한 번의 쿼리로 모든 공정을 계산
+     */
+    @Query(value = """
+            select r.process_name, count(*), sum(case when r.is_anomaly = 1 then 1 else 0 end)
+            from (
+                select m.process_name, m.is_anomaly,
+                       row_number() over (partition by m.process_name order by m.created_date desc) as rn
+                from ml_analysis_results m
+                where m.order_id = :orderId
+                  and m.process_name in (:processNames)
+            ) r
+            where r.rn <= :recentLimit
+            group by r.process_name
+            """, nativeQuery = true)
+    List<Object[]> countRecentAnomaliesByProcess(
+            @Param("orderId") Long orderId,
+            @Param("processNames") Collection<String> processNames,
+            @Param("recentLimit") int recentLimit
+    );
 }
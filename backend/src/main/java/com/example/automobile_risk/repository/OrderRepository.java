@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +22,16 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findDetailById(@Param("orderId") Long orderId);
 
     List<Order> findByOrderStatusNotInOrderByDueDateAsc(List<OrderStatus> excludedStatuses);
+
+    /**
+     * 주문별 [vehicleModelId, orderQty, 할당 수량 합계]
+     */
+    @Query("""
+        select o.vehicleModel.id, o.orderQty, coalesce(sum(op.allocatedQty), 0)
+        from Order o
+        left join o.orderProductionList op
+        where o.orderStatus in :statuses
+        group by o.id, o.vehicleModel.id, o.orderQty
+    """)
+    List<Object[]> findAllocationByStatusIn(@Param("statuses") Collection<OrderStatus> statuses);
 }
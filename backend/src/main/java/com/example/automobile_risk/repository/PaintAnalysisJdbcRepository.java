@@ -0,0 +1,159 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.DetectedDefect;
+import com.example.automobile_risk.entity.PaintAnalysisResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도장 분석 결과 / 결함 대량 적재 (JDBC batch insert)
+ *
+ * - id 는 paint_analysis_results_seq / detected_defects_seq 에서 블록 단위로 할당
+ *   (엔티티 @SequenceGenerator 와 같은 pooled-lo 규칙이므로 JPA 저장 경로와 충돌하지 않는다)
+ * - 할당한 id 를 엔티티에 채워 돌려주므로 저장 후 다시 읽지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaintAnalysisJdbcRepository {
+
+    // 엔티티 @SequenceGenerator.allocationSize 와 동일해야 한다
+    public static final int ID_BLOCK = 50;
+
+    private static final String INSERT_RESULT_SQL = """
+            insert into paint_analysis_results
+                (id, result_id, session_id, image_filename, image_path, image_url, result_image_url, image_size_kb,
+                 status, primary_defect_type, confidence, analyzed_at, model_version, inference_time_ms,
+                 inspector_id, inspector_name, location_code)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_DEFECT_SQL = """
+            insert into detected_defects
+                (id, result_id, defect_class, defect_name_ko, defect_name_en, confidence,
+                 bbox_x1, bbox_y1, bbox_x2, bbox_y2, bbox_area, severity_level, detected_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 결과 + 결함 batch insert (id / 누락된 시각을 엔티티에 채움)
+     *
+     * @return 결과 id (입력 순서)
+     */
+    public List<Long> batchInsert(List<PaintAnalysisResult> results) {
+        if (results.isEmpty()) return List.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        long[] resultIds = allocateIds("paint_analysis_results_seq", results.size());
+
+        List<DetectedDefect> defects = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            PaintAnalysisResult r = results.get(i);
+            r.setId(resultIds[i]);
+            if (r.getAnalyzedAt() == null) r.setAnalyzedAt(now);
+            ids.add(resultIds[i]);
+
+            if (r.getDetectedDefects() == null) continue;
+            for (DetectedDefect d : r.getDetectedDefects()) {
+                // 결함은 항상 부모 결과에 연결 (입력에 다른 resultId 가 있어도 무시)
+                d.setResultId(r.getResultId());
+                if (d.getDetectedAt() == null) d.setDetectedAt(now);
+                defects.add(d);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_RESULT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PaintAnalysisResult r = results.get(i);
+                ps.setLong(1, r.getId());
+                ps.setString(2, r.getResultId());
+                ps.setString(3, r.getSessionId());
+                ps.setString(4, r.getImageFilename());
+                ps.setString(5, r.getImagePath());
+                ps.setString(6, r.getImageUrl());
+                ps.setString(7, r.getResultImageUrl());
+                setInteger(ps, 8, r.getImageSizeKb());
+                ps.setString(9, r.getStatus());
+                ps.setString(10, r.getPrimaryDefectType());
+                setDouble(ps, 11, r.getConfidence());
+                ps.setTimestamp(12, Timestamp.valueOf(r.getAnalyzedAt()));
+                ps.setString(13, r.getModelVersion());
+                setInteger(ps, 14, r.getInferenceTimeMs());
+                ps.setString(15, r.getInspectorId());
+                ps.setString(16, r.getInspectorName());
+                ps.setString(17, r.getLocationCode());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return results.size();
+            }
+        });
+
+        if (!defects.isEmpty()) {
+            long[] defectIds = allocateIds("detected_defects_seq", defects.size());
+            jdbcTemplate.batchUpdate(INSERT_DEFECT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    DetectedDefect d = defects.get(i);
+                    d.setId(defectIds[i]);
+                    ps.setLong(1, defectIds[i]);
+                    ps.setString(2, d.getResultId());
+                    ps.setString(3, d.getDefectClass());
+                    ps.setString(4, d.getDefectNameKo());
+                    ps.setString(5, d.getDefectNameEn());
+                    setDouble(ps, 6, d.getConfidence());
+                    setInteger(ps, 7, d.getBboxX1());
+                    setInteger(ps, 8, d.getBboxY1());
+                    setInteger(ps, 9, d.getBboxX2());
+                    setInteger(ps, 10, d.getBboxY2());
+                    setInteger(ps, 11, d.getBboxArea());
+                    ps.setString(12, d.getSeverityLevel());
+                    ps.setTimestamp(13, Timestamp.valueOf(d.getDetectedAt()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return defects.size();
+                }
+            });
+        }
+
+        return ids;
+    }
+
+    private long[] allocateIds(String sequence, int count) {
+        int blocks = (count + ID_BLOCK - 1) / ID_BLOCK;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "select nextval('" + sequence + "') from generate_series(1, ?)", Long.class, blocks);
+
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockStarts.get(i / ID_BLOCK) + (i % ID_BLOCK);
+        }
+        return ids;
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) ps.setInt(index, value);
+        else ps.setNull(index, Types.INTEGER);
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) ps.setDouble(index, value);
+        else ps.setNull(index, Types.DOUBLE);
+    }
+}
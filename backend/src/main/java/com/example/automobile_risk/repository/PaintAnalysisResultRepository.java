@@ -1,8 +1,10 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.PaintAnalysisResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -18,15 +20,63 @@ public interface PaintAnalysisResultRepository extends JpaRepository<PaintAnalys
     
     List<PaintAnalysisResult> findByAnalyzedAtBetween(LocalDateTime start, LocalDateTime end);
     
-    @Query("SELECT p FROM PaintAnalysisResult p ORDER BY p.analyzedAt DESC")
-    List<PaintAnalysisResult> findTop100ByOrderByAnalyzedAtDesc();
+    /**
+     * 최신순 첫 페이지 (analyzed_at desc, id desc 인덱스)
+     */
+    @Query("SELECT p FROM PaintAnalysisResult p ORDER BY p.analyzedAt DESC, p.id DESC")
+    List<PaintAnalysisResult> findLatest(Pageable pageable);
     
-    @Query("SELECT COUNT(p) FROM PaintAnalysisResult p WHERE p.analyzedAt >= :startDate")
-    Long countByAnalyzedAtAfter(LocalDateTime startDate);
+    /**
+     * cursor (analyzedAt, id) 이전 페이지
+     */
+    @Query("""
+        SELECT p FROM PaintAnalysisResult p
+        WHERE p.analyzedAt < :cursorAt OR (p.analyzedAt = :cursorAt AND p.id < :cursorId)
+        ORDER BY p.analyzedAt DESC, p.id DESC
+    """)
+    List<PaintAnalysisResult> findBefore(
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
     
-    @Query("SELECT COUNT(p) FROM PaintAnalysisResult p WHERE p.status = :status AND p.analyzedAt >= :startDate")
-    Long countByStatusAndAnalyzedAtAfter(String status, LocalDateTime startDate);
+    /**
+     * startDate 이후 통계 한 번에 조회
+     * [total, passed, failed, warning, avgConfidence, defectCount]
+     */
+    @Query(value = """
+        SELECT COUNT(*),
+               COUNT(*) FILTER (WHERE p.status = 'PASS'),
+               COUNT(*) FILTER (WHERE p.status = 'FAIL'),
+               COUNT(*) FILTER (WHERE p.status = 'WARNING'),
+               AVG(p.confidence),
+               (SELECT COUNT(*) FROM detected_defects d WHERE d.detected_at >= :startDate)
+        FROM paint_analysis_results p
+        WHERE p.analyzed_at >= :startDate
+    """, nativeQuery = true)
+    List<Object[]> aggregateSince(@Param("startDate") LocalDateTime startDate);
     
-    @Query("SELECT AVG(p.confidence) FROM PaintAnalysisResult p WHERE p.analyzedAt >= :startDate")
-    Double getAverageConfidenceAfter(LocalDateTime startDate);
+    /**
+     * from 이후 시간 구간별 통계 (통계 카운터 재구성용)
+     * [hour, total, passed, failed, warning, confidenceSum, confidenceCount]
+     */
+    @Query(value = """
+        SELECT date_trunc('hour', p.analyzed_at),
+               COUNT(*),
+               COUNT(*) FILTER (WHERE p.status = 'PASS'),
+               COUNT(*) FILTER (WHERE p.status = 'FAIL'),
+               COUNT(*) FILTER (WHERE p.status = 'WARNING'),
+               COALESCE(SUM(p.confidence), 0),
+               COUNT(p.confidence)
+        FROM paint_analysis_results p
+        WHERE p.analyzed_at >= :from
+        GROUP BY 1
+    """, nativeQuery = true)
+    List<Object[]> aggregateByHourSince(@Param("from") LocalDateTime from);
+    
+    /**
+     * aggregateByHourSince 에 포함되는 분석 결과 id (통계 카운터 재구성용)
+     */
+    @Query(value = "SELECT p.id FROM paint_analysis_results p WHERE p.analyzed_at >= :from", nativeQuery = true)
+    List<Long> findIdsAnalyzedSince(@Param("from") LocalDateTime from);
 }
@@ -0,0 +1,11 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.PressVibrationFeature;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PressVibrationFeatureRepository extends JpaRepository<PressVibrationFeature, Long> {
+
+    Optional<PressVibrationFeature> findByProcessExecutionId(Long processExecutionId);
+}
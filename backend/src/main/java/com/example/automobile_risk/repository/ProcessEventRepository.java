@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProcessEventRepository extends JpaRepository<ProcessEvent, Long> {
@@ -21,4 +22,18 @@ public interface ProcessEventRepository extends JpaRepository<ProcessEvent, Long
 
     @Query("select distinct pe.order.id from ProcessEvent pe where pe.order.id is not null")
     List<Long> findDistinctOrderIds();
+
+    /**
+     * 주문별 · 공정별 결함 이벤트 건수 집계 (orderId, process, count)
+     * - 센서 이상 감지 이벤트(source = SENSOR)는 설비 경보라 결함 건수에서 제외
+     */
+    @Query("""
+        select pe.order.id, pe.process, count(pe)
+        from ProcessEvent pe
+        where pe.order.id in :orderIds
+          and (pe.source is null
+               or pe.source <> com.example.automobile_risk.entity.enumclass.EventSource.SENSOR)
+        group by pe.order.id, pe.process
+    """)
+    List<Object[]> countByOrderIdsGroupByProcess(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -2,6 +2,7 @@ package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.ProcessExecution;
 import com.example.automobile_risk.entity.enumclass.ProcessExecutionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +23,14 @@ public interface ProcessExecutionRepository extends JpaRepository<ProcessExecuti
     long countByProductionIdAndStatus(Long productionId, ProcessExecutionStatus status);
 
     List<ProcessExecution> findByProductionIdOrderByExecutionOrderAsc(Long productionId);
+
+    // 설비에서 진행 중인 공정수행 (최근 시작 순)
+    @Query("""
+        select pe
+        from ProcessExecution pe
+        where pe.equipment.id = :equipmentId
+          and pe.status = com.example.automobile_risk.entity.enumclass.ProcessExecutionStatus.IN_PROGRESS
+        order by pe.startDate desc
+    """)
+    List<ProcessExecution> findInProgressByEquipmentId(@Param("equipmentId") Long equipmentId, Pageable pageable);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductionRepository extends JpaRepository<Production, Long> {
@@ -28,4 +29,32 @@ public interface ProductionRepository extends JpaRepository<Production, Long> {
         ORDER BY p.endDate DESC
     """)
     List<Production> findCompletedWithDetails(@Param("status") ProductionStatus status);
+
+    @Query(value = """
+        SELECT p.id FROM Production p
+        WHERE p.productionStatus = :status
+    """, countQuery = """
+        SELECT COUNT(p) FROM Production p
+        WHERE p.productionStatus = :status
+    """)
+    Page<Long> findIdsByProductionStatus(@Param("status") ProductionStatus status, Pageable pageable);
+
+    @Query("""
+        SELECT DISTINCT p FROM Production p
+        LEFT JOIN FETCH p.vehicleModel
+        LEFT JOIN FETCH p.orderProductionList op
+        LEFT JOIN FETCH op.order
+        WHERE p.id IN :ids
+    """)
+    List<Production> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 차량 모델별 계획 수량 합계 [vehicleModelId, sum(plannedQty)]
+     */
+    @Query("""
+        SELECT p.vehicleModel.id, SUM(p.plannedQty) FROM Production p
+        WHERE p.productionStatus = :status
+        GROUP BY p.vehicleModel.id
+    """)
+    List<Object[]> sumPlannedQtyByVehicleModel(@Param("status") ProductionStatus status);
 }
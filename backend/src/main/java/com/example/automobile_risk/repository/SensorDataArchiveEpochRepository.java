@@ -0,0 +1,25 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.SensorDataArchiveEpoch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SensorDataArchiveEpochRepository extends JpaRepository<SensorDataArchiveEpoch, Long> {
+
+    /**
+     * 세대 행이 없을 때만 생성 (여러 인스턴스가 동시에 시작해도 하나만 남음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        insert into sensor_data_archive_epoch (sensor_data_archive_epoch_id, epoch, created_at)
+        values (1, :epoch, :createdAt)
+        on conflict (sensor_data_archive_epoch_id) do nothing
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("epoch") String epoch, @Param("createdAt") LocalDateTime createdAt);
+}
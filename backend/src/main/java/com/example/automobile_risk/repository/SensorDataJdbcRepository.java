@@ -0,0 +1,227 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.service.dto.SensorDataExportRow;
+import com.example.automobile_risk.service.dto.SensorSample;
+import com.example.automobile_risk.service.dto.SensorValueWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * SensorData 대량 적재 (JDBC batch insert)
+ *
+ * - id 는 sensor_data_seq 에서 블록 단위로 할당 (SensorData 의 @SequenceGenerator 와 같은 pooled-lo 규칙)
+ *   → nextval 한 번에 ID_BLOCK 개의 id 를 사용하므로 JPA 저장 경로와 충돌하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SensorDataJdbcRepository {
+
+    // SensorData @SequenceGenerator.allocationSize 와 동일해야 한다
+    public static final int ID_BLOCK = 50;
+
+    private static final String INSERT_SQL = """
+            insert into sensor_data (sensor_data_id, sensor_id, measured_at, value, created_date, last_modified_date)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    // 센서 하나의 (measured_at, id) keyset 페이지 → idx_sensor_data_sensor_measured_at 순서 그대로 읽음 (정렬 없음)
+    private static final String SENSOR_PAGE_SQL = """
+            select sd.sensor_data_id, sd.sensor_id, s.sensor_type, sd.measured_at, sd.value
+            from sensor_data sd
+            join sensor s on s.sensor_id = sd.sensor_id
+            where sd.sensor_id = ?
+              and sd.measured_at between ? and ?
+              and (sd.measured_at, sd.sensor_data_id) > (?, ?)
+            order by sd.measured_at, sd.sensor_data_id
+            limit ?
+            """;
+
+    private static final String FIRST_SENSOR_BY_TYPE_SQL = """
+            select min(sensor_id)
+            from sensor
+            where equipment_id = ?
+              and lower(sensor_type) = lower(?)
+            """;
+
+    private static final String WINDOW_BY_SENSOR_SQL = """
+            select measured_at, value
+            from sensor_data
+            where sensor_id = ?
+              and measured_at between ? and ?
+            order by measured_at desc
+            limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int batchInsert(List<SensorSample> samples) {
+        if (samples.isEmpty()) return 0;
+
+        long[] ids = allocateIds(samples.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SensorSample sample = samples.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, sample.sensorId());
+                ps.setTimestamp(3, Timestamp.valueOf(sample.measuredAt()));
+                ps.setDouble(4, sample.value());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return samples.size();
+            }
+        });
+
+        return samples.size();
+    }
+
+    private long[] allocateIds(int count) {
+        int blocks = (count + ID_BLOCK - 1) / ID_BLOCK;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "select nextval('sensor_data_seq') from generate_series(1, ?)", Long.class, blocks);
+
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockStarts.get(i / ID_BLOCK) + (i % ID_BLOCK);
+        }
+        return ids;
+    }
+
+    /**
+     * 설비에 달린 특정 타입 센서 중 sensor_id 가 가장 작은 센서 (없으면 null)
+     */
+    public Long findFirstSensorId(Long equipmentId, String sensorType) {
+        return jdbcTemplate.queryForObject(FIRST_SENSOR_BY_TYPE_SQL, Long.class, equipmentId, sensorType);
+    }
+
+    /**
+     * 한 센서의 측정값 구간을 primitive 배열로 적재 (최근 maxSamples 개, 시간순)
+     */
+    public SensorValueWindow loadWindowBySensor(Long sensorId, LocalDateTime from, LocalDateTime to, int maxSamples) {
+        long[] epochMillis = new long[maxSamples];
+        double[] values = new double[maxSamples];
+        int[] size = {0};
+
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            WINDOW_BY_SENSOR_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(Math.min(maxSamples, 5000));
+                    ps.setLong(1, sensorId);
+                    ps.setTimestamp(2, Timestamp.valueOf(from));
+                    ps.setTimestamp(3, Timestamp.valueOf(to));
+                    ps.setInt(4, maxSamples);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> {
+                    int i = size[0]++;
+                    epochMillis[i] = rs.getTimestamp(1).toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+                    values[i] = rs.getDouble(2);
+                }
+        );
+
+        // 최신순으로 읽었으므로 시간순으로 뒤집는다
+        int n = size[0];
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            long t = epochMillis[i];
+            epochMillis[i] = epochMillis[j];
+            epochMillis[j] = t;
+            double v = values[i];
+            values[i] = values[j];
+            values[j] = v;
+        }
+        return new SensorValueWindow(epochMillis, values, n);
+    }
+
+    /**
+     * 아카이브 대상: cutoff 이전 가장 오래된 측정 시각 (없으면 null)
+     */
+    public LocalDateTime findOldestMeasuredAtBefore(LocalDateTime cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "select min(measured_at) from sensor_data where measured_at < ?",
+                Timestamp.class, Timestamp.valueOf(cutoff));
+        return oldest != null ? oldest.toLocalDateTime() : null;
+    }
+
+    /**
+     * [from, to) 구간에 측정값이 있는 센서 id
+     */
+    public List<Long> findSensorIdsBetween(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForList(
+                "select distinct sensor_id from sensor_data where measured_at >= ? and measured_at < ?",
+                Long.class, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 센서 [from, to) 구간 측정값 (sensor_data_id, measured_at, value 를 시각순으로 handler 에 전달)
+     */
+    public void streamSensorRange(Long sensorId, LocalDateTime from, LocalDateTime to, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement("""
+                            select sensor_data_id, measured_at, value
+                            from sensor_data
+                            where sensor_id = ?
+                              and measured_at >= ?
+                              and measured_at < ?
+                            order by measured_at, sensor_data_id
+                            """, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(5000);
+                    ps.setLong(1, sensorId);
+                    ps.setTimestamp(2, Timestamp.valueOf(from));
+                    ps.setTimestamp(3, Timestamp.valueOf(to));
+                    return ps;
+                },
+                handler
+        );
+    }
+
+    /**
+     * 센서 [from, to) 구간 측정값 삭제
+     */
+    public int deleteSensorRange(Long sensorId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.update(
+                "delete from sensor_data where sensor_id = ? and measured_at >= ? and measured_at < ?",
+                sensorId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 센서별 keyset 페이지 ((afterMeasuredAt, afterId) 이후 최대 limit 개, 시각순)
+     */
+    public List<SensorDataExportRow> findSensorPage(Long sensorId, LocalDateTime from, LocalDateTime to,
+                                                    LocalDateTime afterMeasuredAt, long afterId, int limit) {
+        return jdbcTemplate.query(
+                SENSOR_PAGE_SQL,
+                (rs, rowNum) -> new SensorDataExportRow(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getString(3),
+                        rs.getTimestamp(4).toLocalDateTime(),
+                        rs.getDouble(5)
+                ),
+                sensorId,
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to),
+                Timestamp.valueOf(afterMeasuredAt),
+                afterId,
+                limit
+        );
+    }
+}
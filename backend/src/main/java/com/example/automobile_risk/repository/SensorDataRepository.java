@@ -10,33 +10,25 @@ import java.util.List;
 
 public interface SensorDataRepository extends JpaRepository<SensorData, Long> {
 
-    // 센서별 + 기간
-    @Query("""
-        select sd
-        from SensorData sd
-        where sd.sensor.id = :sensorId
-          and sd.measuredAt between :from and :to
-        order by sd.measuredAt
-    """)
-    List<SensorData> findBySensorAndPeriod(
+    // 센서별 + 기간 구간 집계 (bucket, min, max, sum, count, last)
+    @Query(value = """
+        select floor(extract(epoch from sd.measured_at) / :bucketSeconds) as bucket,
+               min(sd.value),
+               max(sd.value),
+               sum(sd.value),
+               count(*),
+               (array_agg(sd.value order by sd.measured_at desc))[1]
+        from sensor_data sd
+        where sd.sensor_id = :sensorId
+          and sd.measured_at >= :from
+          and sd.measured_at < :to
+        group by bucket
+        order by bucket
+    """, nativeQuery = true)
+    List<Object[]> aggregateBySensorAndPeriod(
             @Param("sensorId") Long sensorId,
             @Param("from") LocalDateTime from,
-            @Param("to") LocalDateTime to
-    );
-
-    // 설비별 + 기간
-    @Query("""
-        select sd
-        from SensorData sd
-        join sd.sensor s
-        join s.equipment e
-        where e.id = :equipmentId
-          and sd.measuredAt between :from and :to
-        order by sd.measuredAt
-    """)
-    List<SensorData> findByEquipmentAndPeriod(
-            @Param("equipmentId") Long equipmentId,
-            @Param("from") LocalDateTime from,
-            @Param("to") LocalDateTime to
+            @Param("to") LocalDateTime to,
+            @Param("bucketSeconds") int bucketSeconds
     );
 }
@@ -0,0 +1,91 @@
+package com.example.automobile_risk.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * sensor_data_rollups 누적 upsert (JDBC batch) / 보존 기간 정리
+ */
+@Repository
+@RequiredArgsConstructor
+public class SensorDataRollupJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+            insert into sensor_data_rollups
+                (sensor_id, bucket_seconds, bucket_start, min_value, max_value, sum_value, sample_count, last_value, last_measured_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on conflict (sensor_id, bucket_seconds, bucket_start) do update set
+                min_value = least(sensor_data_rollups.min_value, excluded.min_value),
+                max_value = greatest(sensor_data_rollups.max_value, excluded.max_value),
+                sum_value = sensor_data_rollups.sum_value + excluded.sum_value,
+                sample_count = sensor_data_rollups.sample_count + excluded.sample_count,
+                last_value = case when excluded.last_measured_at >= sensor_data_rollups.last_measured_at
+                                  then excluded.last_value else sensor_data_rollups.last_value end,
+                last_measured_at = greatest(sensor_data_rollups.last_measured_at, excluded.last_measured_at)
+            """;
+
+    private static final String DELETE_BEFORE_SQL = """
+            delete from sensor_data_rollups
+            where bucket_seconds = ?
+              and bucket_start < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 (sensor_id, bucket_seconds, bucket_start) 는 한 번만 포함되어야 하며,
+     * 락 순서를 고정하기 위해 키 순서로 정렬된 상태로 전달한다.
+     */
+    public void upsert(List<RollupRow> rows) {
+        if (rows.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RollupRow row = rows.get(i);
+                ps.setLong(1, row.sensorId());
+                ps.setInt(2, row.bucketSeconds());
+                ps.setTimestamp(3, Timestamp.valueOf(row.bucketStart()));
+                ps.setDouble(4, row.min());
+                ps.setDouble(5, row.max());
+                ps.setDouble(6, row.sum());
+                ps.setLong(7, row.count());
+                ps.setDouble(8, row.last());
+                ps.setTimestamp(9, Timestamp.valueOf(row.lastMeasuredAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * before 이전 구간의 rollup 삭제 (구간 폭별)
+     */
+    public int deleteBefore(int bucketSeconds, LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, bucketSeconds, Timestamp.valueOf(before));
+    }
+
+    public record RollupRow(
+            long sensorId,
+            int bucketSeconds,
+            LocalDateTime bucketStart,
+            double min,
+            double max,
+            double sum,
+            long count,
+            double last,
+            LocalDateTime lastMeasuredAt
+    ) {
+    }
+}
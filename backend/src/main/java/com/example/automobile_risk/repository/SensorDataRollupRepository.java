@@ -0,0 +1,28 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.SensorDataRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SensorDataRollupRepository extends JpaRepository<SensorDataRollup, Long> {
+
+    @Query("""
+        select r
+        from SensorDataRollup r
+        where r.sensorId = :sensorId
+          and r.bucketSeconds = :bucketSeconds
+          and r.bucketStart >= :from
+          and r.bucketStart < :to
+        order by r.bucketStart
+    """)
+    List<SensorDataRollup> findBySensorAndPeriod(
+            @Param("sensorId") Long sensorId,
+            @Param("bucketSeconds") int bucketSeconds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
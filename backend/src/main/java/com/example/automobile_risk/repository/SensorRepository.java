@@ -3,6 +3,9 @@ package com.example.automobile_risk.repository;
 import com.example.automobile_risk.entity.Sensor;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface SensorRepository extends JpaRepository<Sensor, Long> {
 
+    List<Sensor> findByEquipmentId(Long equipmentId);
 }
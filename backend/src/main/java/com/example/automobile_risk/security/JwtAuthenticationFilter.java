@@ -1,5 +1,10 @@
 package com.example.automobile_risk.security;
 
+import com.example.automobile_risk.entity.enumclass.UserRole;
+import com.example.automobile_risk.service.dto.AuthFilterStats;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,59 +12,152 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * JWT 인증 필터 (stateless)
+ *
+ * - 토큰은 한 번만 파싱 / 검증하고 subject + role claim 으로 인증 정보를 만든다 (DB 조회 없음)
+ * - role claim 이 없는 이전 토큰, 또는 사용자 상태 확인이 켜진 경우에만 UserStatusCache 사용
+ * - 결과별 카운터 (valid / expired / malformed / missing / rejected)
+ * - 접근 로그는 sample-rate 비율만 key=value 형식으로 기록 (0 이면 끔)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // 권한별 authority 목록은 한 번만 생성
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private enum Outcome { VALID, EXPIRED, MALFORMED, MISSING, REJECTED }
+
     private final JwtUtils jwtUtils;
-    private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+
+    @Value("${app.auth.access-log.sample-rate:0.01}")
+    private double accessLogSampleRate;
+
+    private final LongAdder valid = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+    private final LongAdder missing = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        try {
-            String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-
-                log.info("REQUEST URI = {}", request.getRequestURI());
 
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+        String jwt = parseJwt(request);
+        String username = null;
+        Outcome outcome;
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (jwt == null) {
+            outcome = Outcome.MISSING;
+        } else {
+            try {
+                Claims claims = jwtUtils.verify(jwt);
+                username = claims.getSubject();
+                UserRole role = resolveRole(username, claims.get(JwtUtils.ROLE_CLAIM, String.class));
+                if (role != null) {
+                    authenticate(username, role);
+                    outcome = Outcome.VALID;
+                } else {
+                    outcome = Outcome.REJECTED;
+                }
+            } catch (ExpiredJwtException e) {
+                outcome = Outcome.EXPIRED;
+            } catch (JwtException | IllegalArgumentException e) {
+                outcome = Outcome.MALFORMED;
+            } catch (RuntimeException e) {
+                // 사용자 상태 조회 실패 등 → 인증 없이 진행
+                log.warn("auth filter error: uri={}, user={}", request.getRequestURI(), username, e);
+                outcome = Outcome.REJECTED;
             }
-        } catch (Exception e) {
-            // Log error
+        }
+
+        count(outcome);
+        if (accessLogSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < accessLogSampleRate) {
+            log.info("auth outcome={} method={} uri={} user={}",
+                    outcome, request.getMethod(), request.getRequestURI(), username);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    public AuthFilterStats getStats() {
+        return AuthFilterStats.builder()
+                .valid(valid.sum())
+                .expired(expired.sum())
+                .malformed(malformed.sum())
+                .missing(missing.sum())
+                .rejected(rejected.sum())
+                .build();
+    }
+
+    private void authenticate(String username, UserRole role) {
+        List<GrantedAuthority> authorities = AUTHORITIES.get(role);
+        User principal = new User(username, "", authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    /**
+     * @return 인증에 사용할 권한, 사용자가 없거나 알 수 없는 권한이면 null
+     */
+    private UserRole resolveRole(String username, String roleClaim) {
+        if (username == null) return null;
+        if (roleClaim == null || userStatusCache.isEnabled()) {
+            return userStatusCache.currentRole(username).orElse(null);
+        }
+        try {
+            return UserRole.valueOf(roleClaim);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void count(Outcome outcome) {
+        switch (outcome) {
+            case VALID -> valid.increment();
+            case EXPIRED -> expired.increment();
+            case MALFORMED -> malformed.increment();
+            case MISSING -> missing.increment();
+            case REJECTED -> rejected.increment();
+        }
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
-
-        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
-            return headerAuth.substring(7);
+        if (headerAuth != null && headerAuth.startsWith(BEARER_PREFIX) && headerAuth.length() > BEARER_PREFIX.length()) {
+            return headerAuth.substring(BEARER_PREFIX.length());
         }
 
+        // SSE(EventSource) 는 헤더를 보낼 수 없어 query parameter 로 전달
         String tokenParam = request.getParameter("token");
-        if (StringUtils.hasText(tokenParam)) {
+        if (tokenParam != null && !tokenParam.isBlank()) {
             return tokenParam;
         }
 
@@ -2,8 +2,10 @@ package com.example.automobile_risk.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -14,39 +16,52 @@ import java.util.Date;
 @Component
 public class JwtUtils {
 
+    // 권한 claim (ROLE_ 접두사 없는 UserRole 이름)
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${app.jwt.secret:${JWT_SECRET:your-very-secure-secret-key-that-is-long-enough}}")
     private String jwtSecret;
 
     @Value("${app.jwt.expirationMs:36000000}")  // 600분 = 10시간 
     private int jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    // 서명 키 / 파서는 한 번만 생성 (thread-safe)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
 
+        String role = userPrincipal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(a -> a.startsWith("ROLE_"))
+                .map(a -> a.substring("ROLE_".length()))
+                .findFirst()
+                .orElse(null);
+
+        Date now = new Date();
         return Jwts.builder()
                 .setSubject((userPrincipal.getUsername()))
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claim(ROLE_CLAIM, role)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build()
-                .parseClaimsJws(token).getBody().getSubject();
-    }
-
-    public boolean validateJwtToken(String authToken) {
-        try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            // Log error
-        }
-        return false;
+    /**
+     * 서명 / 만료 검증 후 claims 반환 (한 번만 파싱)
+     *
+     * @throws ExpiredJwtException 만료
+     * @throws JwtException 서명 불일치 / 형식 오류
+     */
+    public Claims verify(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
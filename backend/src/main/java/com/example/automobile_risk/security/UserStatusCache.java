@@ -0,0 +1,68 @@
+package com.example.automobile_risk.security;
+
+import com.example.automobile_risk.entity.User;
+import com.example.automobile_risk.entity.enumclass.UserRole;
+import com.example.automobile_risk.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 상태 TTL 캐시 (토큰 폐기 확인용, 기본 비활성)
+ *
+ * - 활성화 시 ttl 동안은 DB 조회 없이 사용자 존재 여부 / 현재 권한을 판단
+ * - 사용자 삭제 / 권한 변경은 최대 ttl 뒤에 반영된다
+ * - 토큰에 권한 claim 이 없는 경우(이전 발급 토큰)에도 권한 조회에 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatusCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final UserRepository userRepository;
+
+    @Value("${app.jwt.user-status-check.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.jwt.user-status-check.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 권한, 사용자가 없으면 empty
+     */
+    public Optional<UserRole> currentRole(String username) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(username);
+        if (entry == null || entry.expiresAt < now) {
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.values().removeIf(e -> e.expiresAt < now);
+                if (entries.size() >= MAX_ENTRIES) entries.clear();
+            }
+            UserRole role = userRepository.findByUsername(username)
+                    .map(User::getRole)
+                    .map(r -> r != null ? r : UserRole.PRODUCTION_MANAGER)
+                    .orElse(null);
+            entry = new Entry(role, now + ttlSeconds * 1000);
+            entries.put(username, entry);
+        }
+        return Optional.ofNullable(entry.role);
+    }
+
+    public void evict(String username) {
+        entries.remove(username);
+    }
+
+    private record Entry(UserRole role, long expiresAt) {
+    }
+}
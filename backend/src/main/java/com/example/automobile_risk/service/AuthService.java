@@ -6,6 +6,7 @@ import com.example.automobile_risk.entity.User;
 import com.example.automobile_risk.entity.enumclass.UserRole;
 import com.example.automobile_risk.repository.UserRepository;
 import com.example.automobile_risk.security.JwtUtils;
+import com.example.automobile_risk.security.UserStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,6 +25,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final UserStatusCache userStatusCache;
 
     public void register(LoginRequest request) {
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
@@ -40,6 +42,7 @@ public class AuthService {
                 .build();
 
         userRepository.save(user);
+        userStatusCache.evict(user.getUsername());
     }
 
     public LoginResponse login(LoginRequest request) {
@@ -0,0 +1,77 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.repository.BomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차량 모델별 BOM 캐시
+ * - 생산 시작 / MRP 계산 시 BOM 조회를 DB 없이 처리
+ * - BOM 등록 / 수정 / 삭제, 부품 수정 시 커밋 후 evict
+ * - 적재 중 evict 가 일어나면 적재 결과를 캐시하지 않는다 (이전 값 재등록 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class BomCatalog {
+
+    private final BomRepository bomRepository;
+
+    private final Map<Long, BomStructure> structures = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public BomStructure get(Long vehicleModelId) {
+        BomStructure cached = structures.get(vehicleModelId);
+        if (cached != null) return cached;
+
+        long loadedAt = generation.get();
+        BomStructure loaded = BomStructure.of(
+                vehicleModelId, bomRepository.findWithPartByVehicleModelId(vehicleModelId));
+        // 세대 확인과 등록을 같은 키 잠금 안에서 처리 → evict 의 증가 / 제거 사이에 끼어들어도 이전 값이 남지 않음
+        BomStructure cachedOrNull = structures.compute(vehicleModelId, (id, current) -> {
+            if (current != null) return current;
+            return generation.get() == loadedAt ? loaded : null;
+        });
+        return cachedOrNull != null ? cachedOrNull : loaded;
+    }
+
+    /**
+     * 차량 모델 BOM evict (커밋 후, 트랜잭션 밖이면 즉시)
+     */
+    public void evictAfterCommit(Long... vehicleModelIds) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            for (Long id : vehicleModelIds) {
+                if (id != null) structures.remove(id);
+            }
+        });
+    }
+
+    /**
+     * 전체 evict (부품명 변경 등 여러 모델에 걸친 변경)
+     */
+    public void evictAllAfterCommit() {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            structures.clear();
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -31,6 +31,7 @@ public class BomService {
     private final BomRepository bomRepository;
     private final VehicleModelRepository vehicleModelRepository;
     private final PartRepository partRepository;
+    private final BomCatalog bomCatalog;
 
     /**
      *  1. BOM 등록
@@ -56,6 +57,7 @@ public class BomService {
                 .build();
 
         Bom savedBom = bomRepository.save(bom);
+        bomCatalog.evictAfterCommit(vehicleModel.getId());
 
         return savedBom.getId();
     }
@@ -75,12 +77,15 @@ public class BomService {
         Part part = partRepository.findById(bomUpdateForm.getPartId())
                 .orElseThrow(() -> new PartNotFoundException(bomUpdateForm.getPartId()));
 
+        Long previousVehicleModelId = bom.getVehicleModel().getId();
+
         // 수정 (변경 감지)
         bom.update(
                 bomUpdateForm.getRequiredQty(),
                 vehicleModel,
                 part
         );
+        bomCatalog.evictAfterCommit(previousVehicleModelId, vehicleModel.getId());
 
         return bom.getId();
     }
@@ -95,6 +100,7 @@ public class BomService {
                 .orElseThrow(() -> new BomNotFoundException(bomId));
 
         bomRepository.deleteById(bom.getId());
+        bomCatalog.evictAfterCommit(bom.getVehicleModel().getId());
 
         return bom.getId();
     }
@@ -0,0 +1,65 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Bom;
+
+import java.util.List;
+
+/**
+ * 차량 모델 1대분 BOM (불변)
+ * - 부품 id 오름차순 primitive 배열, 캐시에서 공유되므로 외부에 배열을 노출하지 않는다
+ */
+public final class BomStructure {
+
+    private final Long vehicleModelId;
+    private final long[] partIds;
+    private final String[] partNames;
+    private final int[] requiredQty;
+
+    private BomStructure(Long vehicleModelId, long[] partIds, String[] partNames, int[] requiredQty) {
+        this.vehicleModelId = vehicleModelId;
+        this.partIds = partIds;
+        this.partNames = partNames;
+        this.requiredQty = requiredQty;
+    }
+
+    /**
+     * @param bomList 부품 id 오름차순, part fetch 된 BOM
+     */
+    static BomStructure of(Long vehicleModelId, List<Bom> bomList) {
+        int n = bomList.size();
+        long[] partIds = new long[n];
+        String[] partNames = new String[n];
+        int[] requiredQty = new int[n];
+        for (int i = 0; i < n; i++) {
+            Bom bom = bomList.get(i);
+            partIds[i] = bom.getPart().getId();
+            partNames[i] = bom.getPart().getPartName();
+            requiredQty[i] = bom.getRequiredQty();
+        }
+        return new BomStructure(vehicleModelId, partIds, partNames, requiredQty);
+    }
+
+    public Long getVehicleModelId() {
+        return vehicleModelId;
+    }
+
+    public int size() {
+        return partIds.length;
+    }
+
+    public boolean isEmpty() {
+        return partIds.length == 0;
+    }
+
+    public long partId(int i) {
+        return partIds[i];
+    }
+
+    public String partName(int i) {
+        return partNames[i];
+    }
+
+    public int requiredQty(int i) {
+        return requiredQty[i];
+    }
+}
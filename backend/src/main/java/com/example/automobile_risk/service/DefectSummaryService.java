@@ -18,6 +18,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,31 +44,71 @@ public class DefectSummaryService {
     private final ObjectMapper objectMapper;
 
     // Use Unicode escapes to avoid encoding issues in source files.
-    private static final List<String> PROCESS_NAMES = Arrays.asList(
-            "\uD504\uB808\uC2A4",             // 프레스
-            "\uC6A9\uC811",                   // 용접
-            "\uB3C4\uC7A5",                   // 도장
-            "\uC870\uB9BD",                   // 조립
-            "\uAC80\uC0AC"                    // 검사
-    );
-
-    public List<DefectSummaryResponse> getCompletedProductionSummaries() {
-        List<Production> completed = productionRepository.findCompletedWithDetails(ProductionStatus.COMPLETED);
-        return completed.stream()
-                .map(this::buildSummaryForProduction)
-                .sorted((a, b) -> {
-                    if (a.getCompletedAt() == null && b.getCompletedAt() == null) return 0;
-                    if (a.getCompletedAt() == null) return 1;
-                    if (b.getCompletedAt() == null) return -1;
-                    return b.getCompletedAt().compareTo(a.getCompletedAt());
-                })
-                .collect(Collectors.toList());
+    private static final String PRESS = "\uD504\uB808\uC2A4";        // 프레스
+    private static final String WELD = "\uC6A9\uC811";               // 용접
+    private static final String PAINT = "\uB3C4\uC7A5";              // 도장
+    private static final String ASSEMBLY = "\uC870\uB9BD";           // 조립
+    private static final String INSPECTION = "\uAC80\uC0AC";         // 검사
+
+    private static final List<String> PROCESS_NAMES = Arrays.asList(PRESS, WELD, PAINT, ASSEMBLY, INSPECTION);
+
+    public Page<DefectSummaryResponse> getCompletedProductionSummaries(Pageable pageable) {
+        // 종료일 등 정렬 컬럼이 null 인 생산은 정렬 방향과 무관하게 뒤로 (DB 기본은 DESC 에서 null 이 앞)
+        // 정렬 값이 같은 생산이 페이지 사이에서 중복 / 누락되지 않도록 id 를 마지막 정렬 기준으로 추가
+        List<Sort.Order> orders = new ArrayList<>(pageable.getSort().stream().map(Sort.Order::nullsLast).toList());
+        if (pageable.getSort().getOrderFor("id") == null) {
+            orders.add(Sort.Order.desc("id"));
+        }
+        pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+
+        Page<Long> idPage = productionRepository.findIdsByProductionStatus(ProductionStatus.COMPLETED, pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, idPage.getTotalElements());
+        }
+
+        Map<Long, Production> productionById = productionRepository.findWithDetailsByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Production::getId, p -> p));
+
+        // 완료 시점 스냅샷이 있는 생산은 스냅샷으로 응답
+        Map<Long, DefectSummarySnapshot> snapshotByProduction =
+                findLatestCompletedSnapshots(idPage.getContent());
+
+        // 스냅샷이 없는 생산만 공정별 결함 건수를 한 번의 집계 쿼리로 조회
+        Set<Long> orderIds = productionById.values().stream()
+                .filter(p -> !snapshotByProduction.containsKey(p.getId()))
+                .map(this::resolveOrderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Map<String, Long>> defectCountsByOrder = countDefectsByOrder(orderIds);
+
+        return idPage.map(id -> {
+            Production production = productionById.get(id);
+            DefectSummarySnapshot snapshot = snapshotByProduction.get(id);
+            if (snapshot != null) {
+                return DefectSummaryResponse.from(production, toProcessSummaries(snapshot));
+            }
+
+            Long orderId = resolveOrderId(production);
+            Map<String, Long> defectCountByProcess = orderId != null
+                    ? defectCountsByOrder.getOrDefault(orderId, Collections.emptyMap())
+                    : Collections.emptyMap();
+            return DefectSummaryResponse.from(production, toProcessSummaries(defectCountByProcess));
+        });
     }
 
     public DefectSummaryResponse getDefectSummaryByProductionId(Long productionId) {
         Production production = productionRepository.findById(productionId)
                 .orElseThrow(() -> new EntityNotFoundException("Production not found: " + productionId));
 
+        if (production.getProductionStatus() == ProductionStatus.COMPLETED) {
+            Optional<DefectSummarySnapshot> snapshot = defectSummarySnapshotRepository
+                    .findFirstByProductionIdAndStageOrderByCapturedAtDescIdDesc(productionId, DefectSnapshotStage.COMPLETED);
+            if (snapshot.isPresent()) {
+                return DefectSummaryResponse.from(production, toProcessSummaries(snapshot.get()));
+            }
+        }
+
         return buildSummaryForProduction(production);
     }
 
@@ -111,6 +156,11 @@ public class DefectSummaryService {
                 capturedAt,
                 totalDefects,
                 overallStatus,
+                defectCountOf(processSummaries, PRESS),
+                defectCountOf(processSummaries, WELD),
+                defectCountOf(processSummaries, PAINT),
+                defectCountOf(processSummaries, ASSEMBLY),
+                defectCountOf(processSummaries, INSPECTION),
                 json
         );
 
@@ -140,6 +190,11 @@ public class DefectSummaryService {
                 capturedAt,
                 totalDefects,
                 overallStatus,
+                defectCountOf(processSummaries, PRESS),
+                defectCountOf(processSummaries, WELD),
+                defectCountOf(processSummaries, PAINT),
+                defectCountOf(processSummaries, ASSEMBLY),
+                defectCountOf(processSummaries, INSPECTION),
                 json
         );
 
@@ -147,15 +202,17 @@ public class DefectSummaryService {
     }
 
     private DefectSummaryResponse buildSummaryForProduction(Production production) {
-        Long orderId = null;
-        if (production.getOrderProductionList() != null && !production.getOrderProductionList().isEmpty()) {
-            orderId = production.getOrderProductionList().get(0).getOrder().getId();
-        }
-
-        List<ProcessDefectSummaryResponse> processSummaries = buildProcessSummaries(orderId);
+        List<ProcessDefectSummaryResponse> processSummaries = buildProcessSummaries(resolveOrderId(production));
         return DefectSummaryResponse.from(production, processSummaries);
     }
 
+    private Long resolveOrderId(Production production) {
+        if (production.getOrderProductionList() == null || production.getOrderProductionList().isEmpty()) {
+            return null;
+        }
+        return production.getOrderProductionList().get(0).getOrder().getId();
+    }
+
     private DefectSummaryResponse buildSummaryForOrder(Order order) {
         List<ProcessDefectSummaryResponse> processSummaries = new ArrayList<>();
 
@@ -182,26 +239,78 @@ public class DefectSummaryService {
     }
 
     private List<ProcessDefectSummaryResponse> buildProcessSummaries(Long orderId) {
+        if (orderId == null) {
+            return toProcessSummaries(Collections.emptyMap());
+        }
+
+        Map<String, Long> defectCountByProcess = countDefectsByOrder(List.of(orderId))
+                .getOrDefault(orderId, Collections.emptyMap());
+        return toProcessSummaries(defectCountByProcess);
+    }
+
+    private List<ProcessDefectSummaryResponse> toProcessSummaries(Map<String, Long> defectCountByProcess) {
         List<ProcessDefectSummaryResponse> processSummaries = new ArrayList<>();
+        for (String processName : PROCESS_NAMES) {
+            int defectCount = defectCountByProcess.getOrDefault(processName, 0L).intValue();
+            processSummaries.add(ProcessDefectSummaryResponse.of(processName, defectCount));
+        }
+        return processSummaries;
+    }
 
-        if (orderId != null) {
-            Map<String, Long> defectCountByProcess = processEventRepository.findByOrderId(orderId).stream()
-                    .collect(Collectors.groupingBy(
-                            e -> e.getProcess() != null ? e.getProcess() : "ETC",
-                            Collectors.counting()
-                    ));
+    /**
+     * 주문 ID 목록에 대해 공정별 결함 건수를 집계 (orderId -> process -> count)
+     */
+    private Map<Long, Map<String, Long>> countDefectsByOrder(Collection<Long> orderIds) {
+        Map<Long, Map<String, Long>> result = new HashMap<>();
+        if (orderIds.isEmpty()) {
+            return result;
+        }
 
-            for (String processName : PROCESS_NAMES) {
-                int defectCount = defectCountByProcess.getOrDefault(processName, 0L).intValue();
-                processSummaries.add(ProcessDefectSummaryResponse.of(processName, defectCount));
-            }
-        } else {
-            for (String processName : PROCESS_NAMES) {
-                processSummaries.add(ProcessDefectSummaryResponse.of(processName, 0));
-            }
+        for (Object[] row : processEventRepository.countByOrderIdsGroupByProcess(orderIds)) {
+            Long orderId = (Long) row[0];
+            String process = row[1] != null ? (String) row[1] : "ETC";
+            Long count = (Long) row[2];
+            result.computeIfAbsent(orderId, k -> new HashMap<>()).merge(process, count, Long::sum);
         }
+        return result;
+    }
 
-        return processSummaries;
+    /**
+     * 스냅샷의 공정별 결함 건수 (컬럼이 없는 이전 스냅샷은 JSON 에서 복원)
+     */
+    private List<ProcessDefectSummaryResponse> toProcessSummaries(DefectSummarySnapshot snapshot) {
+        if (!snapshot.hasProcessDefectCounts()) {
+            return deserializeProcessSummaries(snapshot.getProcessSummariesJson());
+        }
+
+        Map<String, Long> defectCountByProcess = new HashMap<>();
+        defectCountByProcess.put(PRESS, snapshot.getPressDefectCount().longValue());
+        defectCountByProcess.put(WELD, snapshot.getWeldDefectCount().longValue());
+        defectCountByProcess.put(PAINT, snapshot.getPaintDefectCount().longValue());
+        defectCountByProcess.put(ASSEMBLY, snapshot.getAssemblyDefectCount().longValue());
+        defectCountByProcess.put(INSPECTION, snapshot.getInspectionDefectCount().longValue());
+        return toProcessSummaries(defectCountByProcess);
+    }
+
+    private static int defectCountOf(List<ProcessDefectSummaryResponse> processSummaries, String processName) {
+        return processSummaries.stream()
+                .filter(summary -> processName.equals(summary.getProcessName()))
+                .mapToInt(ProcessDefectSummaryResponse::getDefectCount)
+                .sum();
+    }
+
+    /**
+     * 생산 ID 목록에 대해 최신 COMPLETED 스냅샷 조회 (productionId -> snapshot)
+     */
+    private Map<Long, DefectSummarySnapshot> findLatestCompletedSnapshots(Collection<Long> productionIds) {
+        Map<Long, DefectSummarySnapshot> result = new HashMap<>();
+        for (DefectSummarySnapshot snapshot : defectSummarySnapshotRepository
+                .findLatestByProductionIdIn(productionIds, DefectSnapshotStage.COMPLETED)) {
+            // capturedAt 이 같은 스냅샷이 여러 건이면 나중에 저장된 것을 사용
+            result.merge(snapshot.getProduction().getId(), snapshot,
+                    (a, b) -> a.getId() > b.getId() ? a : b);
+        }
+        return result;
     }
 
     private String serializeProcessSummaries(List<ProcessDefectSummaryResponse> processSummaries) {
@@ -235,8 +344,7 @@ public class DefectSummaryService {
     }
 
     private DefectSummaryResponse toResponse(DefectSummarySnapshot snapshot) {
-        List<ProcessDefectSummaryResponse> processSummaries =
-                deserializeProcessSummaries(snapshot.getProcessSummariesJson());
+        List<ProcessDefectSummaryResponse> processSummaries = toProcessSummaries(snapshot);
 
         Long productionId = snapshot.getProduction() != null ? snapshot.getProduction().getId() : null;
         Long orderId = snapshot.getOrder() != null ? snapshot.getOrder().getId() : null;
@@ -1,13 +1,21 @@
 package com.example.automobile_risk.service;
 
 import com.example.automobile_risk.entity.DueDatePrediction;
+import com.example.automobile_risk.entity.DueDatePredictionPayload;
+import com.example.automobile_risk.exception.EntityNotFoundException;
+import com.example.automobile_risk.repository.DueDatePredictionPayloadRepository;
 import com.example.automobile_risk.repository.DueDatePredictionRepository;
+import com.example.automobile_risk.service.dto.DueDatePredictionPayloadResponse;
 import com.example.automobile_risk.service.dto.DueDatePredictionResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -18,8 +26,31 @@ import java.util.stream.Collectors;
 public class DueDatePredictionService {
 
     private final DueDatePredictionRepository dueDatePredictionRepository;
+    private final DueDatePredictionPayloadRepository dueDatePredictionPayloadRepository;
     private final DueDatePredictionSseService dueDatePredictionSseService;
 
+    @Value("${duedate.payload.enabled:true}")
+    private boolean payloadEnabled;
+
+    @Value("${duedate.payload.retention-days:30}")
+    private int payloadRetentionDays;
+
+    /**
+     * 예측 저장 + 원본 요청/응답 JSON 은 cold 테이블에 분리 저장
+     */
+    @Transactional
+    public DueDatePrediction save(DueDatePrediction prediction, String requestJson, String responseJson) {
+        DueDatePrediction saved = save(prediction);
+        if (payloadEnabled && (requestJson != null || responseJson != null)) {
+            dueDatePredictionPayloadRepository.save(DueDatePredictionPayload.builder()
+                    .predictionId(saved.getId())
+                    .requestJson(requestJson)
+                    .responseJson(responseJson)
+                    .build());
+        }
+        return saved;
+    }
+
     @Transactional
     public DueDatePrediction save(DueDatePrediction prediction) {
         System.out.println("DUEDATE_SAVE_REACHED");
@@ -43,19 +74,15 @@ public class DueDatePredictionService {
     }
 
     public List<DueDatePredictionResponse> getLatestPerOrder(int limit) {
-        List<DueDatePrediction> all = dueDatePredictionRepository.findAllByOrderByIdDesc();
-        Map<Long, DueDatePrediction> latestByOrder = new LinkedHashMap<>();
-
-        for (DueDatePrediction p : all) {
-            Long orderId = p.getOrderId();
-            if (orderId == null) continue;
-            if (!latestByOrder.containsKey(orderId)) {
-                latestByOrder.put(orderId, p);
-                if (latestByOrder.size() >= limit) break;
-            }
-        }
+        return getLatestPerOrder(null, limit);
+    }
 
-        return latestByOrder.values().stream()
+    /**
+     * 주문별 최신 예측 조회 (keyset 페이징)
+     * cursorId 는 이전 페이지 마지막 항목의 id, 첫 페이지는 null
+     */
+    public List<DueDatePredictionResponse> getLatestPerOrder(Long cursorId, int limit) {
+        return dueDatePredictionRepository.findLatestPerOrder(cursorId, PageRequest.of(0, limit)).stream()
                 .map(DueDatePredictionResponse::from)
                 .collect(Collectors.toList());
     }
@@ -64,4 +91,27 @@ public class DueDatePredictionService {
         if (orderId == null) return Optional.empty();
         return dueDatePredictionRepository.findTopByOrderIdOrderByIdDesc(orderId);
     }
+
+    /**
+     * 감사 화면용 원본 요청/응답 JSON 조회 (요청 시에만 로딩)
+     */
+    public DueDatePredictionPayloadResponse getPayload(Long predictionId) {
+        return dueDatePredictionPayloadRepository.findByPredictionId(predictionId)
+                .map(DueDatePredictionPayloadResponse::from)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "DueDatePrediction payload not found. predictionId=" + predictionId));
+    }
+
+    /**
+     * 보존 기간이 지난 원본 JSON 삭제 (매일 새벽)
+     */
+    @Scheduled(cron = "${duedate.payload.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpiredPayloads() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(payloadRetentionDays);
+        int deleted = dueDatePredictionPayloadRepository.deleteCreatedBefore(cutoff);
+        if (deleted > 0) {
+            log.info("DueDatePrediction payloads purged: count={}, cutoff={}", deleted, cutoff);
+        }
+    }
 }
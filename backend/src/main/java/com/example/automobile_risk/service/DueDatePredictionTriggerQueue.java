@@ -0,0 +1,174 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.service.dto.DueDatePredictionTriggerStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 납기 예측 트리거 병합 큐
+ *
+ * - 대기 중인 트리거는 (productionId, snapshotStage) 기준으로 하나만 유지
+ *   → 같은 키의 새 요청은 대기 중인 요청에 병합 (실행 시점의 DB 상태로 예측하므로 최신 요청과 동일)
+ * - 생산별 최소 실행 간격(minIntervalMs)으로 ML 호출 빈도 제한
+ * - 고정된 워커 스레드가 큐를 소비
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DueDatePredictionTriggerQueue {
+
+    private final DueDatePredictionTriggerService dueDatePredictionTriggerService;
+
+    @Value("${duedate.trigger.workers:2}")
+    private int workerCount;
+
+    @Value("${duedate.trigger.min-interval-ms:5000}")
+    private long minIntervalMs;
+
+    private final DelayQueue<PendingTrigger> queue = new DelayQueue<>();
+    private final Map<TriggerKey, PendingTrigger> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lastExecutedAt = new ConcurrentHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            Thread worker = new Thread(this::drain, "duedate-trigger-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 트리거 요청 (즉시 반환)
+     */
+    public void submit(Long productionId, String snapshotStage) {
+        if (productionId == null || snapshotStage == null || snapshotStage.isBlank()) return;
+        received.increment();
+
+        TriggerKey key = new TriggerKey(productionId, snapshotStage);
+        PendingTrigger trigger = new PendingTrigger(key, nextAllowedAt(productionId));
+        if (pending.putIfAbsent(key, trigger) != null) {
+            coalesced.increment();
+            return;
+        }
+        queue.offer(trigger);
+    }
+
+    public DueDatePredictionTriggerStats getStats() {
+        return DueDatePredictionTriggerStats.builder()
+                .received(received.sum())
+                .coalesced(coalesced.sum())
+                .executed(executed.sum())
+                .failed(failed.sum())
+                .pending(pending.size())
+                .build();
+    }
+
+    private void drain() {
+        while (running) {
+            PendingTrigger trigger;
+            try {
+                trigger = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Long productionId = trigger.key.productionId();
+            if (!tryAcquireSlot(productionId)) {
+                // 같은 생산의 다른 단계가 방금 실행됨 → 다음 허용 시점으로 재예약
+                trigger.readyAt = nextAllowedAt(productionId);
+                queue.offer(trigger);
+                continue;
+            }
+
+            // 실행 직전에 대기 목록에서 제거 → 이후 요청은 새로 큐잉
+            pending.remove(trigger.key);
+            try {
+                if (dueDatePredictionTriggerService.triggerOnStage(productionId, trigger.key.snapshotStage())) {
+                    executed.increment();
+                } else {
+                    failed.increment();
+                }
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("DueDate trigger failed: productionId={}, stage={}, msg={}",
+                        productionId, trigger.key.snapshotStage(), e.getMessage());
+            }
+        }
+    }
+
+    private long nextAllowedAt(Long productionId) {
+        Long last = lastExecutedAt.get(productionId);
+        long now = System.currentTimeMillis();
+        return last == null ? now : Math.max(now, last + minIntervalMs);
+    }
+
+    private boolean tryAcquireSlot(Long productionId) {
+        long now = System.currentTimeMillis();
+        Long last = lastExecutedAt.get(productionId);
+        if (last != null && now - last < minIntervalMs) {
+            return false;
+        }
+        boolean acquired = last == null
+                ? lastExecutedAt.putIfAbsent(productionId, now) == null
+                : lastExecutedAt.replace(productionId, last, now);
+        if (acquired && lastExecutedAt.size() > 1024) {
+            lastExecutedAt.values().removeIf(at -> now - at > minIntervalMs);
+        }
+        return acquired;
+    }
+
+    private record TriggerKey(Long productionId, String snapshotStage) {
+    }
+
+    private static final class PendingTrigger implements Delayed {
+
+        private final TriggerKey key;
+        private volatile long readyAt;
+
+        private PendingTrigger(TriggerKey key, long readyAt) {
+            this.key = key;
+            this.readyAt = readyAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAt, ((PendingTrigger) other).readyAt);
+        }
+    }
+}
@@ -13,14 +13,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -35,12 +36,19 @@ public class DueDatePredictionTriggerService {
     private final MLProxyService mlProxyService;
     private final ObjectMapper objectMapper;
 
-    @Async("simulationExecutor")
+    private static final int ANOMALY_WINDOW = 50;
+    private static final List<String> ANOMALY_PROCESS_NAMES = List.of("프레스", "용접", "도장", "조립", "검사");
+
+    /**
+     * 납기 예측 실행 (DueDatePredictionTriggerQueue 워커에서 호출)
+     *
+     * @return ML 호출까지 성공하면 true, 잘못된 인자 / 조회 실패 / 호출 실패는 false
+     */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public void triggerOnStage(Long productionId, String snapshotStage) {
+    public boolean triggerOnStage(Long productionId, String snapshotStage) {
         log.info("DueDate trigger start: productionId={}, stage={}", productionId, snapshotStage);
         System.out.println("DUEDATE_TRIGGER_ENTER");
-        if (productionId == null || snapshotStage == null || snapshotStage.isBlank()) return;
+        if (productionId == null || snapshotStage == null || snapshotStage.isBlank()) return false;
         try {
             System.out.println("DUEDATE_TRIGGER_BEFORE_FIND");
             Production production = productionRepository.findById(productionId)
@@ -76,11 +84,12 @@ public class DueDatePredictionTriggerService {
             body.put("snapshot_stage", snapshotStage);
 
             System.out.println("DUEDATE_TRIGGER_BEFORE_ANOMALY");
-            Double press = anomalyScore(orderId, "프레스");
-            Double weld = anomalyScore(orderId, "용접");
-            Double paint = anomalyScore(orderId, "도장");
-            Double assembly = anomalyScore(orderId, "조립");
-            Double inspection = anomalyScore(orderId, "검사");
+            Map<String, Double> scores = anomalyScores(orderId);
+            Double press = scores.get("프레스");
+            Double weld = scores.get("용접");
+            Double paint = scores.get("도장");
+            Double assembly = scores.get("조립");
+            Double inspection = scores.get("검사");
             System.out.println("DUEDATE_TRIGGER_AFTER_ANOMALY");
 
             if (press != null) body.put("press_anomaly_score", press);
@@ -93,19 +102,30 @@ public class DueDatePredictionTriggerService {
             mlProxyService.analyzeDueDate(body);
             System.out.println("DUEDATE_TRIGGER_AFTER_CALL");
             log.info("DueDate trigger success: productionId={}, stage={}", productionId, snapshotStage);
+            return true;
         } catch (Exception e) {
             System.out.println("DUEDATE_TRIGGER_CATCH: " + e.getClass().getName() + " - " + e.getMessage());
             log.error("DueDate trigger error: productionId={}, stage={}, msg={}",
                     productionId, snapshotStage, e.getMessage(), e);
+            return false;
         }
     }
 
-    private Double anomalyScore(Long orderId, String processName) {
-        if (orderId == null || processName == null) return null;
-        var list = mlAnalysisResultRepository.findRecent(orderId, null, processName, PageRequest.of(0, 50));
-        if (list == null || list.isEmpty()) return null;
-        long total = list.size();
-        long abnormal = list.stream().filter(r -> r.getIsAnomaly() != null && r.getIsAnomaly() == 1).count();
-        return total == 0 ? null : (double) abnormal / (double) total;
+    /**
+     * 공정별 최근 ANOMALY_WINDOW 건 중 이상 비율 (공정명 -> score), 결과가 없는 공정은 제외
+     */
+    private Map<String, Double> anomalyScores(Long orderId) {
+        Map<String, Double> scores = new HashMap<>();
+        if (orderId == null) return scores;
+        List<Object[]> rows = mlAnalysisResultRepository.countRecentAnomaliesByProcess(
+                orderId, ANOMALY_PROCESS_NAMES, ANOMALY_WINDOW);
+        for (Object[] row : rows) {
+            long total = ((Number) row[1]).longValue();
+            long abnormal = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+            if (total > 0) {
+                scores.put((String) row[0], (double) abnormal / (double) total);
+            }
+        }
+        return scores;
     }
 }
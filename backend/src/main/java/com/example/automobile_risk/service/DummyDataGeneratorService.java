@@ -1,11 +1,20 @@
 package com.example.automobile_risk.service;
 
 import com.example.automobile_risk.entity.*;
+import com.example.automobile_risk.entity.enumclass.OrderStatus;
+import com.example.automobile_risk.entity.enumclass.ProcessExecutionStatus;
+import com.example.automobile_risk.entity.enumclass.ProductionStatus;
 import com.example.automobile_risk.repository.*;
-import jakarta.persistence.EntityManager;
+import com.example.automobile_risk.repository.DummyDataJdbcRepository.OrderProductionRow;
+import com.example.automobile_risk.repository.DummyDataJdbcRepository.OrderRow;
+import com.example.automobile_risk.repository.DummyDataJdbcRepository.ProcessExecutionRow;
+import com.example.automobile_risk.repository.DummyDataJdbcRepository.ProductionRow;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,28 +22,45 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.time.Duration;
 
+/**
+ * 더미 데이터 생성 (청크 단위 JDBC batch insert)
+ *
+ * - rows 를 chunkSize 단위 청크로 나누고, 청크마다 한 트랜잭션으로 적재 (영속성 컨텍스트 사용 안 함)
+ * - 청크 시드 = f(dummy.seed, 청크 번호) → 병렬 실행 순서와 무관하게 같은 데이터 생성
+ * - 완료된 청크는 dummy_data_chunks 에 같은 트랜잭션으로 기록 → 실패 후 다시 실행하면 남은 청크만 생성
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class DummyDataGeneratorService {
 
-    private final EntityManager em;
-
-    // (현재 코드에서는 repository들을 직접 쓰진 않지만,
-    //  필요하면 saveAll 같은 배치 저장 방식으로 바꾸기 위해 남겨둘 수 있음)
-    private final OrderRepository orderRepository;
-    private final ProductionRepository productionRepository;
-    private final OrderProductionRepository orderProductionRepository;
-    private final ProcessExecutionRepository processExecutionRepository;
-    private final DelayTrainingSnapshotRepository snapshotRepository;
+    private final DummyDataJdbcRepository dummyDataJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
 
     private final VehicleModelRepository vehicleModelRepository;
     private final ProcessTypeRepository processTypeRepository;
     private final EquipmentRepository equipmentRepository;
 
+    // 청크당 production 수 (청크 하나 = 트랜잭션 하나)
+    @Value("${dummy.chunk-size:5000}")
+    private int chunkSize;
+
+    // 동시에 적재하는 청크 수 (커넥션 풀 크기보다 작게)
+    @Value("${dummy.parallelism:4}")
+    private int parallelism;
+
+    // 청크 실패 시 같은 시드로 재시도하는 횟수
+    @Value("${dummy.chunk-retries:2}")
+    private int chunkRetries;
+
     /**
      * 더미 데이터 생성
      * 핵심 목표:
@@ -48,68 +74,158 @@ public class DummyDataGeneratorService {
      * @param rows     생성할 production 수
      * @param lateRate 지연 비율 (예: 0.05 = 5%)
      * @param seed     랜덤 시드
+     * @throws IllegalStateException 사전 데이터가 없거나, 재시도 후에도 실패한 청크가 있는 경우
      */
     public void generate(int rows, double lateRate, long seed) {
 
-        // -----------------------------
-        // 0) 난수 생성기 (seed로 재현 가능)
-        // -----------------------------
-        Random r = new Random(seed);
-
         // -----------------------------
         // 1) 사전 데이터 로딩
         //    - 주문 생성에 필요한 VehicleModel 목록
         //    - 공정 수행 생성에 필요한 ProcessType 목록
         // -----------------------------
-        List<VehicleModel> models = vehicleModelRepository.findAll();
+        List<Long> modelIds = vehicleModelRepository.findAll().stream().map(VehicleModel::getId).toList();
         List<ProcessType> processTypes = processTypeRepository.findAll();
 
-        // -----------------------------
-        // 2) ProcessType 별 Equipment 매핑 (processTypeId -> equipmentList)
-        //    - 설비는 processType을 FK로 갖고 있으므로 groupBy 가능
-        //    - 공정 수행 생성 시 해당 공정 타입의 설비를 랜덤 선택하기 위함
-        // -----------------------------
-        Map<Long, List<Equipment>> equipmentsByProcessTypeId =
-                equipmentRepository.findAll().stream()
-                        .collect(Collectors.groupingBy(e -> e.getProcessType().getId()));
-
         // 사전 데이터가 없으면 더미를 만들 수 없음
-        if (models.isEmpty() || processTypes.isEmpty()) {
+        if (modelIds.isEmpty() || processTypes.isEmpty()) {
             throw new IllegalStateException("VehicleModel / ProcessType 더미(또는 기본 데이터)가 먼저 필요합니다.");
         }
 
         // -----------------------------
-        // 3) 지연 건수 타겟 설정
-        //    - rows * lateRate 만큼의 production을 "지연"으로 만들겠다
+        // 2) ProcessType 별 Equipment 매핑 (processTypeId -> equipmentIds)
+        //    - 공정 수행 생성 시 해당 공정 타입의 설비를 랜덤 선택하기 위함
         // -----------------------------
-        int lateTarget = (int) Math.round(rows * lateRate); // 목표 지연 건수 (10,000 * 0.05 = 500개)
-        int lateCount = 0;                                  // 지금까지 만든 지연 건수
+        Map<Long, List<Long>> equipmentIdsByProcessTypeId =
+                equipmentRepository.findAll().stream()
+                        .collect(Collectors.groupingBy(
+                                e -> e.getProcessType().getId(),
+                                Collectors.mapping(Equipment::getId, Collectors.toList())
+                        ));
 
         // 공정 타입을 processOrder 순으로 정렬해서 실행 순서를 만든다.
-        // processOrder=1,2,3,4,5 순으로 공정이 수행되게 함
         List<ProcessType> ordered = processTypes.stream()
                 .sorted(Comparator.comparingInt(ProcessType::getProcessOrder))
                 .toList();
 
+        // 설비가 없는 공정은 공정수행을 만들 수 없어서 skip (stageIdx 는 그대로 증가)
+        List<Stage> stages = new ArrayList<>();
+        for (int idx = 0; idx < ordered.size(); idx++) {
+            ProcessType pt = ordered.get(idx);
+            List<Long> eqs = equipmentIdsByProcessTypeId.get(pt.getId());
+            if (eqs == null || eqs.isEmpty()) continue;
+            stages.add(new Stage(idx, pt.getId(), pt.getProcessName(), stageCodeOf(pt), eqs));
+        }
+
+        Plan plan = new Plan(modelIds, stages, ordered.size(), LocalDateTime.now());
+
         // -----------------------------
-        // 4) Production 단위 반복 
-        //    rows 만큼 반복하면서
-        //    "업무 테이블 + 학습 스냅샷" 생성
+        // 3) 청크 분할 + 완료된 청크 제외
         // -----------------------------
-        for (int i = 1; i <= rows; i++) {
+        String runKey = rows + "/" + lateRate + "/" + seed + "/" + chunkSize;
+        Set<Integer> completed = dummyDataJdbcRepository.findCompletedChunks(runKey);
+        int chunks = (rows + chunkSize - 1) / chunkSize;
+
+        long startedAt = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int c = 0; c < chunks; c++) {
+                if (completed.contains(c)) continue;
+
+                int chunkIndex = c;
+                int from = c * chunkSize;
+                int to = Math.min(from + chunkSize, rows);
+
+                // 전체 지연 목표를 청크 경계 기준으로 나눔 (청크 합 = round(rows * lateRate))
+                int lateTarget = (int) (Math.round(to * lateRate) - Math.round(from * lateRate));
+                long chunkSeed = chunkSeed(seed, chunkIndex);
+
+                futures.add(executor.submit(() -> runChunk(plan, runKey, chunkIndex, to - from, lateTarget, chunkSeed)));
+            }
+
+            int failed = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.error("[Dummy] chunk failed", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("더미 데이터 생성이 중단되었습니다.", e);
+                }
+            }
+
+            if (failed > 0) {
+                throw new IllegalStateException(String.format(
+                        "더미 데이터 청크 %d개 생성 실패 (같은 설정으로 다시 실행하면 남은 청크만 생성합니다)", failed));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("[Dummy] generated rows={} (chunks={}, skipped={}, parallelism={}) in {} ms",
+                rows, chunks, completed.size(), parallelism, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 청크 하나 생성 + 적재 (실패 시 같은 시드로 재시도)
+     */
+    private void runChunk(Plan plan, String runKey, int chunkIndex, int rows, int lateTarget, long chunkSeed) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                tx.executeWithoutResult(status -> {
+                    writeChunk(plan, rows, lateTarget, new Random(chunkSeed));
+                    dummyDataJdbcRepository.markChunkCompleted(runKey, chunkIndex, rows);
+                });
+                log.debug("[Dummy] chunk {} done (rows={})", chunkIndex, rows);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= chunkRetries) throw e;
+                log.warn("[Dummy] chunk {} failed, retrying ({}/{}): {}", chunkIndex, attempt + 1, chunkRetries, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 청크의 production rows 건 생성 후 테이블별 batch insert
+     */
+    private void writeChunk(Plan plan, int rows, int lateTarget, Random r) {
+
+        List<Stage> stages = plan.stages();
+        int executions = rows * stages.size();
+
+        // id 를 미리 받아 두고 연관 id / snapshot 의 orderId, productionId 에 바로 사용
+        long[] orderIds = dummyDataJdbcRepository.allocateIds("orders", "order_id", rows);
+        long[] productionIds = dummyDataJdbcRepository.allocateIds("production", "production_id", rows);
+        long[] orderProductionIds = dummyDataJdbcRepository.allocateIds("order_production", "order_production_id", rows);
+        long[] executionIds = dummyDataJdbcRepository.allocateIds("process_execution", "process_execution_id", executions);
+        long[] snapshotIds = dummyDataJdbcRepository.allocateIds("delay_training_snapshot", "id", executions);
+
+        List<OrderRow> orders = new ArrayList<>(rows);
+        List<ProductionRow> productions = new ArrayList<>(rows);
+        List<OrderProductionRow> orderProductions = new ArrayList<>(rows);
+        List<ProcessExecutionRow> processExecutions = new ArrayList<>(executions);
+        List<DelayTrainingSnapshot> snapshots = new ArrayList<>(executions);
+
+        int lateCount = 0;  // 지금까지 만든 지연 건수
+
+        for (int i = 0; i < rows; i++) {
+
+            long orderId = orderIds[i];
+            long productionId = productionIds[i];
 
             // ==========================================
-            // [STEP 1] Order 생성
+            // [STEP 1] Order
             // ==========================================
-
-            // 랜덤으로 차량 모델 선택
-            VehicleModel model = models.get(r.nextInt(models.size()));
+            long modelId = plan.modelIds().get(r.nextInt(plan.modelIds().size()));
 
             // 주문 수량(1~20)
             int orderQty = 1 + r.nextInt(20);
 
             // 주문일: 최근 30일 내 임의의 날짜
-            LocalDateTime orderDate = LocalDateTime.now().minusDays(r.nextInt(30));
+            LocalDateTime orderDate = plan.baseTime().minusDays(r.nextInt(30));
 
             // 생산 시작일: 주문일 + 0~1일 후
             LocalDateTime prodStart = orderDate.plusDays(r.nextInt(2));
@@ -121,50 +237,21 @@ public class DummyDataGeneratorService {
 
             LocalDateTime dueDate = prodStart.plusMinutes(slackMinutes);
 
-            // Order 엔티티 생성 (도메인 규칙/상태 초기화는 createOrder 내부에서 처리)
-            Order order = Order.createOrder(orderDate, dueDate, orderQty, model);
-
-            // 영속화 (DB insert 대상)
-            em.persist(order);
-
             // ==========================================
-            // [STEP 2] Production 생성
+            // [STEP 2] Production + [STEP 3] OrderProduction
+            // - 주문 수량 중 일부 or 전부를 이 production에 배분 (1~orderQty)
+            // - 주문 상태는 Order.updateStatusByAllocation 과 같은 규칙
             // ==========================================
-
-            // 주문 수량 중 일부 or 전부를 이 production에 배분 (예: 1~orderQty)
             int allocated = 1 + r.nextInt(orderQty);
+            OrderStatus orderStatus = allocated < orderQty
+                    ? OrderStatus.PARTIALLY_ALLOCATED
+                    : OrderStatus.FULLY_ALLOCATED;
 
-            // Production 생성 (PLANNED 상태로 시작하는 것이 일반적)
-            Production production = Production.of(prodStart, allocated, model);
-            em.persist(production);
-
-            // 생산을 바로 IN_PROGRESS로 전환 (샘플 데이터에서 진행중 생산처럼 보이게)
-            // 생산 상태: PLANNED -> IN_PROGRESS
-            production.start();
-
-            // ==========================================
-            // [STEP 3] Order - Production 연결 (OrderProduction)
-            // ==========================================
-
-            // OrderProduction 생성
-            // - 내부에서 order.addOrderProduction(op), production.addOrderProduction(op) 같은
-            //   연관관계 완성 로직이 있다고 가정한다면,
-            //   cascade 설정에 따라 persist 없이도 저장될 수 있음.
-            OrderProduction op = OrderProduction.createOrderProduction(order, production, allocated);
-
-            // cascade가 명확히 보장되지 않는다면 persist를 명시적으로 호출해주는 편이 안전
-            em.persist(op);
-
-            // ==========================================
-            // [STEP 4] 공정 수행(ProcessExecution) 5개 생성
-            //          + 공정별 anomaly/stop으로 생산 지연 원인을 "현실스럽게" 만들기
-            // ==========================================
+            orderProductions.add(new OrderProductionRow(orderProductionIds[i], allocated, orderId, productionId));
 
             // ------------------------------------------
             // [STEP 4] 공정별 anomaly score 생성 (0~1)
-            //      평균이 낮은 값에 몰리게 만들고,
-            //      가끔 큰 값이 나오도록(정규분포 기반 -> r.nextGaussian()) 만들었다.
-            //      (대부분 낮고(정상), 가끔 높은 값(이상) 발생하도록)
+            //      대부분 낮고(정상), 가끔 높은 값(이상) 발생하도록 정규분포 기반
             // ------------------------------------------
             double pressScore = bounded(r.nextGaussian() * 0.15 + 0.15);
             double weldScore = bounded(r.nextGaussian() * 0.18 + 0.12);
@@ -174,15 +261,11 @@ public class DummyDataGeneratorService {
 
             // ------------------------------------------
             // [STEP 5] 이번 production을 "지연으로 만들지" 결정
-            //
-            // lateTarget(목표 지연 건수)를 정확히 맞추기 위해
-            // 남은 row 대비 남은 지연 슬롯에 따라 확률 p를 계산해서 선택한다.
-            // lateTarget이 5%면, 전체 rows 중 정확히 lateTarget건이 지연이 되도록
-            // 남은 슬롯/남은 row를 이용해 확률을 동적으로 계산함.
+            // - 청크의 남은 row 대비 남은 지연 슬롯으로 확률 p를 계산
             // ------------------------------------------
             boolean makeLate = false;
             if (lateCount < lateTarget) {
-                int remaining = rows - i + 1;                   // 아직 만들어야 하는 row 수
+                int remaining = rows - i;                       // 아직 만들어야 하는 row 수
                 int lateRemaining = lateTarget - lateCount;     // 아직 만들어야 하는 지연(late) row 수
                 double p = (double) lateRemaining / remaining;  // 이번 row가 지연일 확률
                 makeLate = r.nextDouble() < p;
@@ -191,138 +274,79 @@ public class DummyDataGeneratorService {
             int lateStartStageIdx = makeLate ? (2 + r.nextInt(2)) : Integer.MAX_VALUE;
             long totalLateMinutes = makeLate ? (300 + r.nextInt(1200)) : 0;
             long perStageLate = makeLate
-                    ? totalLateMinutes / Math.max(1, ordered.size() - lateStartStageIdx)
+                    ? totalLateMinutes / Math.max(1, plan.processCount() - lateStartStageIdx)
                     : 0;
 
             // ==========================================
             // [STEP 7] 공정 수행 루프 + 스냅샷 생성
+            // - cursor 는 "현재까지 공정이 끝난 시각"
             // ==========================================
-
-            // 공정 수행 시점 커서
-            // cursor는 "현재까지 공정이 끝난 시각"을 의미
-            // 초기화 : 생산 시작일자
-            // 이후 갱신하면 이전 공정 종료 시점 다음부터 시작
             LocalDateTime cursor = prodStart;
-
-            // 공정 순번 (executionOrder)
             int executionOrder = 1;
-
-            // stop 이벤트 횟수 누적 (학습 feature로 사용)
             int stopCountTotal = 0;
+            int firstSnapshot = snapshots.size();
 
-            // snapshot 임시 보관 (finalDelay 확정 후 업데이트용)
-            List<DelayTrainingSnapshot> snapshots = new ArrayList<>();
-
-            // =====================================================
-            // [STEP 7] 공정 수행 루프
-            // =====================================================
-
-            int stageIdx = 0;
-            for (ProcessType pt : ordered) {
-
-                // 해당 공정 타입의 설비 목록
-                List<Equipment> eqs = equipmentsByProcessTypeId.get(pt.getId());
-
-                // 공정 타입은 있는데 설비가 없으면 이 공정은 생성 불가
-                // (데이터 품질을 위해서는 설비를 최소 1개씩 반드시 만들어두는 것을 권장)
-                if (eqs == null || eqs.isEmpty()) {
-                    // 설비가 없으면 공정수행을 만들 수 없어서 skip
-                    // (단, "모든 공정 완료 후 C시점"이 목적이면
-                    //  여기서 예외를 던지는 설계가 더 명확할 수 있음)
-                    // 필요하면 로그 남겨서 데이터 품질 체크 가능
-                    // log.warn("No equipment for processTypeId={}, name={}", pt.getId(), pt.getProcessName());
-                    stageIdx++;
-                    continue;
-                }
+            for (Stage stage : stages) {
 
                 // 해당 공정 타입 중 랜덤 설비 1개 선택
-                // 예) 프레스 1호기, 프레스 2호기 중 프레스 1호기 랜덤으로 선택
-                Equipment eq = eqs.get(r.nextInt(eqs.size()));
-
-                // 공정별 기본 소요시간(분)
-                // 공정명 문자열로 분기하는 것은 데모에서는 OK
-                // (실전에서는 processType에 baseDuration 같은 컬럼을 두는 것도 방법)
-                // processName 문자열은 DB에 들어있는 값과 반드시 일치해야 함.
-                // (오타나 이름 변경이 있으면 default로 빠짐)
-                long base = switch (pt.getProcessName()) {
-                    case "프레스" -> 120;                 // stamping
-                    case "차체조립(용접)" -> 180;          // welding
-                    case "도장" -> 200;                   // paint
-                    case "의장" -> 240;                   // assembly
-                    case "검수" -> 90;                    // inspection
-                    default -> 150;
-                };
-
-                // 해당 공정의 anomaly score 선택
+                long equipmentId = stage.equipmentIds().get(r.nextInt(stage.equipmentIds().size()));
+
+                long base = baseMinutesOf(stage.processName());
+
                 // anomaly가 높으면 duration이 길어지게 설계 -> 지연 원인 생성
                 double score = scoreOf(
-                        pt.getProcessName(),
+                        stage.processName(),
                         pressScore, weldScore, assemblyScore, paintScore, inspectionScore
                 );
 
-                // ---- anomaly 기반 추가 시간 -> extra
-                // 현실 공정은 절대 균일하지 않다 (0.3 정도의 기본 변동성을 가짐)
-                // base * score * (0.3~1.3 정도) => score가 높을수록 시간이 늘어남
-                // anomaly score가 높을수록 extra가 늘어나고 duration이 길어진다
+                // base * score * (0.3~1.3) => score가 높을수록 시간이 늘어남
                 long extra = (long) (base * score * (0.3 + r.nextDouble()));
 
                 long duration = base + extra;
 
-                // stop 이벤트:
-                // - 기본적으로 아주 낮은 확률로 발생 -> 1% + (score * 5%) 확률
-                // - score가 높을수록 확률 증가
-                // - makeLate(지연 row) 케이스의 경우:
-                //      15% 정도 추가 발생 확률 -> stop 확률을 추가로 높여 "지연 원인"을 강화 -> 지연 row는 stop이 더 많아짐
+                // stop 이벤트: 1% + (score * 5%), 지연 row 는 15% 추가
                 boolean stop =
-                        (r.nextDouble() < (0.01 + score * 0.05))    // 기본 : 1% + (score * 5%) 확률
-                            || (makeLate && r.nextDouble() < 0.15); // 지연 : 15% 정도 추가 발생 확률
+                        (r.nextDouble() < (0.01 + score * 0.05))
+                            || (makeLate && r.nextDouble() < 0.15);
 
                 if (stop) {
                     stopCountTotal++;
-                    // stop 시 추가 지연 시간: 1~5시간(60~240분)
+                    // stop 시 추가 지연 시간: 60~239분
                     duration += 60 + r.nextInt(180);
                 }
 
                 // ✅ late 분산
-                if (makeLate && stageIdx >= lateStartStageIdx) {
+                if (makeLate && stage.stageIdx() >= lateStartStageIdx) {
                     duration += perStageLate + r.nextInt(30);
                 }
 
-                // 공정 시작 시점: 이전 공정 종료(cursor) 이후 약간의 간격(0~9분)을 두고 시작
+                // 공정 시작 시점: 이전 공정 종료(cursor) 이후 0~9분 간격
                 LocalDateTime peStart = cursor.plusMinutes(r.nextInt(10));
-
-                // 공정 종료 시점
                 LocalDateTime peEnd = peStart.plusMinutes(duration);
 
-                // ProcessExecution 생성
-                // (createEntity에서는 startDate와 executionOrder를 받고,
-                //  endDate는 complete()에서 설정되는 구조로 보임)
-                // 공정 수행 상태: READY
-                ProcessExecution pe = ProcessExecution.createEntity(
-                        peStart, executionOrder, 1, production, pt, eq
-                );
-                em.persist(pe);
-
-                // 상태 전이: READY(or STOPPED) -> IN_PROGRESS -> COMPLETED
-                pe.operate();       // 공정 수행 상태: IN_PROGRESS
-                pe.complete(peEnd); // 공정 수행 상태: COMPLETED
-
-                // 누적 소요시간 업데이트
-                // totalMinutes += java.time.Duration.between(peStart, peEnd).toMinutes();
+                // READY -> IN_PROGRESS -> COMPLETED 까지 끝난 공정 수행
+                int execIdx = snapshots.size();
+                processExecutions.add(new ProcessExecutionRow(
+                        executionIds[execIdx],
+                        peStart,
+                        peEnd,
+                        executionOrder,
+                        1,
+                        ProcessExecutionStatus.COMPLETED.name(),
+                        productionId,
+                        stage.processTypeId(),
+                        equipmentId
+                ));
 
-                // 다음 공정은 이 공정 종료 이후부터 이어진다
                 cursor = peEnd;
-                executionOrder++;   // 실제 수행된 공정 순서
-                stageIdx++;
+                executionOrder++;
 
                 // =================================================
                 // ✅ stage-aware anomaly (미래 공정 anomaly는 null)
                 // =================================================
-                // IMPORTANT:
-                // - DelayTrainingSnapshot 컬럼 타입이 Double(래퍼)여야 null 저장 가능
                 Double press = null, weld = null, paint = null, assembly = null, inspection = null;
 
-                switch (pt.getProcessName()) {
+                switch (stage.processName()) {
                     case "프레스" -> press = pressScore;
                     case "차체조립(용접)" -> { press = pressScore; weld = weldScore; }
                     case "도장" -> { press = pressScore; weld = weldScore; paint = paintScore; }
@@ -333,16 +357,12 @@ public class DummyDataGeneratorService {
                     }
                 }
 
-                // =================================================
-                // 🔥 공정 종료 시점 Snapshot 생성
-                // - cumulativeDelayMinutes는 엔티티 내부에서 snapshotTime/dueDate로 계산됨
-                // - finalDelay/remainingDelay/delayFlag는 생성 시점엔 0 → 나중에 applyFinalDelay로 확정
-                // =================================================
-                DelayTrainingSnapshot snap = DelayTrainingSnapshot.of(
-                        order.getId(),
-                        production.getId(),
+                // 공정 종료 시점 Snapshot (finalDelay 관련 라벨은 아래에서 확정)
+                snapshots.add(DelayTrainingSnapshot.of(
+                        orderId,
+                        productionId,
 
-                        stageCodeOf(pt),
+                        stage.stageCode(),
                         peEnd,
 
                         orderDate,
@@ -354,46 +374,46 @@ public class DummyDataGeneratorService {
                         press, weld, paint, assembly, inspection,
 
                         stopCountTotal
-                );
-
-
-                em.persist(snap);
-                snapshots.add(snap);
-            }   // for (ProcessType pt : ordered)
+                ));
+            }
 
             // ==========================================
             // [STEP 8] Production 완료 시점(prodEnd) 확정 + 최종 지연 확정
             // ==========================================
-
-            // 기본은 마지막 공정 종료 시점
             LocalDateTime prodEnd = cursor;
-            production.complete(prodEnd);
 
             long finalDelayMinutes =
                     Math.max(0, Duration.between(dueDate, prodEnd).toMinutes());
 
             if (finalDelayMinutes > 0) lateCount++;
 
-            // ==========================================
-            // [STEP 9] 모든 snapshot에 finalDelay 적용
-            // - remainingDelayMinutes = max(finalDelay - cumulativeDelay, 0)
-            // - delayFlag = finalDelay > 0 ? 1 : 0
-            // ==========================================
-            for (DelayTrainingSnapshot s : snapshots) {
-                s.applyFinalDelay(finalDelayMinutes);
+            // [STEP 9] 이 production 의 모든 snapshot에 finalDelay 적용
+            for (int s = firstSnapshot; s < snapshots.size(); s++) {
+                snapshots.get(s).applyFinalDelay(finalDelayMinutes);
             }
 
-            // ==========================================
-            // [STEP 8] 배치 flush/clear
-            // ==========================================
-            // - JPA 1차 캐시에 엔티티가 계속 쌓이면 메모리/성능 문제 발생
-            // - 500건마다 DB에 flush하고 영속성 컨텍스트를 비워준다
-            if (i % 500 == 0) {
-                em.flush();
-                em.clear();
-            }
-        }   // for (int i = 1; i <= rows; i++)
-    }   // generate()
+            orders.add(new OrderRow(orderId, orderDate, dueDate, orderStatus.name(), orderQty, modelId));
+            productions.add(new ProductionRow(
+                    productionId, prodStart, prodEnd, allocated, 0, ProductionStatus.COMPLETED.name(), modelId));
+        }
+
+        // FK 순서대로 적재
+        dummyDataJdbcRepository.batchInsertOrders(orders);
+        dummyDataJdbcRepository.batchInsertProductions(productions);
+        dummyDataJdbcRepository.batchInsertOrderProductions(orderProductions);
+        dummyDataJdbcRepository.batchInsertProcessExecutions(processExecutions);
+        dummyDataJdbcRepository.batchInsertSnapshots(snapshots, snapshotIds);
+    }
+
+    /**
+     * 청크 시드 (SplitMix64 섞기) - 인접한 청크 번호도 서로 무관한 난수열이 되도록
+     */
+    private static long chunkSeed(long seed, int chunkIndex) {
+        long z = seed + (chunkIndex + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
 
     /**
      * 값을 0~1로 클램핑(clamping)
@@ -405,6 +425,21 @@ public class DummyDataGeneratorService {
         return x;
     }
 
+    /**
+     * 공정별 기본 소요시간(분)
+     * - processName 문자열은 DB에 들어있는 값과 반드시 일치해야 함 (다르면 default)
+     */
+    private static long baseMinutesOf(String processName) {
+        return switch (processName) {
+            case "프레스" -> 120;                 // stamping
+            case "차체조립(용접)" -> 180;          // welding
+            case "도장" -> 200;                   // paint
+            case "의장" -> 240;                   // assembly
+            case "검수" -> 90;                    // inspection
+            default -> 150;
+        };
+    }
+
     /**
      * 공정명에 따라 해당 공정의 score를 반환
      * - 공정 타입 이름 문자열에 의존하므로, 추후 enum/코드값으로 바꾸는 것이 더 안전
@@ -439,6 +474,20 @@ public class DummyDataGeneratorService {
         };
     }
 
-}
-
+    /**
+     * 설비가 있는 공정 (stageIdx = processOrder 정렬 기준 위치)
+     */
+    private record Stage(int stageIdx, long processTypeId, String processName, String stageCode, List<Long> equipmentIds) {
+    }
 
+    /**
+     * 모든 청크가 공유하는 읽기 전용 사전 데이터
+     */
+    private record Plan(
+            List<Long> modelIds,
+            List<Stage> stages,
+            int processCount,
+            LocalDateTime baseTime
+    ) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.exception.PartNotFoundException;
+import com.example.automobile_risk.repository.InventoryCheckpointJdbcRepository;
+import com.example.automobile_risk.repository.InventoryCheckpointJdbcRepository.BalanceRow;
+import com.example.automobile_risk.repository.PartRepository;
+import com.example.automobile_risk.service.dto.InventoryBalanceResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 재고 잔량 체크포인트
+ *
+ * - 매 정시(settle 시간 경과 후) 부품별 잔량을 직전 체크포인트 + 구간 이력 합계로 기록
+ * - 첫 체크포인트 / 체크포인트 이전 시점은 현재 수량에서 이후 이력을 거꾸로 빼서 구함
+ *   → 이력 없이 생성된 초기 재고(current_qty)도 잔량에 포함
+ * - 시점 잔량 조회는 직전 체크포인트부터 해당 시점까지만 이력을 읽는다
+ * - settle 시간은 아직 커밋되지 않은 이력이 체크포인트 이전 시각으로 들어오는 것을 피하기 위한 여유
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventoryCheckpointService {
+
+    private final InventoryCheckpointJdbcRepository inventoryCheckpointJdbcRepository;
+    private final PartRepository partRepository;
+
+    @Value("${inventory.checkpoint.settle-seconds:300}")
+    private long settleSeconds;
+
+    @Transactional
+    @Scheduled(cron = "${inventory.checkpoint.cron:0 5 * * * *}")
+    public void createCheckpoints() {
+        LocalDateTime at = LocalDateTime.now().minusSeconds(settleSeconds).truncatedTo(ChronoUnit.HOURS);
+        int created = inventoryCheckpointJdbcRepository.createCheckpoints(at);
+        log.info("[Inventory checkpoint] at={}, parts={}", at, created);
+    }
+
+    /**
+     * at 시점 부품 잔량
+     */
+    public InventoryBalanceResponse getBalanceAt(Long partId, LocalDateTime at) {
+        if (!partRepository.existsById(partId)) {
+            throw new PartNotFoundException(partId);
+        }
+
+        BalanceRow row = inventoryCheckpointJdbcRepository.balanceAt(partId, at);
+
+        return InventoryBalanceResponse.builder()
+                .partId(partId)
+                .at(at)
+                .balance(row.balance())
+                .checkpointAt(row.checkpointAt())
+                .build();
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.enumclass.InventoryChangeType;
+import com.example.automobile_risk.repository.InventoryJdbcRepository;
+import com.example.automobile_risk.repository.InventoryJdbcRepository.HistoryRow;
+import com.example.automobile_risk.repository.InventoryJdbcRepository.LedgerRow;
+import com.example.automobile_risk.service.dto.InventoryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 재고 원장
+ *
+ * - 부품별 수량은 메모리에 두고, 변경은 부품 id 기준 striped lock 안에서 가용 수량 확인 후 예약
+ * - 변경 이력은 호출 측 트랜잭션에서 inventory_history 에 먼저 기록 (reconciled=false, write-ahead)
+ * - 커밋 시 수량 반영, 롤백 시 예약만 해제
+ * - inventory.current_qty 는 주기적으로 미반영 이력을 합산해 맞춘다 (각 이력은 한 번만 반영)
+ * - 기동 시 current_qty + 미반영 이력 합계로 복원
+ * - 조회는 락 없이 메모리 값을 읽는다
+ *
+ * 단일 인스턴스 배포를 전제로 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryLedger {
+
+    private static final int STRIPES = 64;
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = createLocks();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (LedgerRow row : inventoryJdbcRepository.loadLedger()) {
+            entries.putIfAbsent(row.partId(), new Entry(row));
+        }
+        log.info("Inventory ledger loaded: parts={}", entries.size());
+    }
+
+    /**
+     * 미반영 이력을 inventory.current_qty 에 반영
+     */
+    @Scheduled(fixedDelayString = "${inventory.ledger.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        int updated = inventoryJdbcRepository.foldUnreconciled();
+        if (updated > 0) {
+            log.debug("Inventory ledger reconciled: parts={}", updated);
+        }
+    }
+
+    /**
+     * 부품별 수량 변경 (음수 = 출고), 호출 측 트랜잭션 필수
+     *
+     * @param changes 부품 id → 변경 수량
+     * @throws IllegalStateException 재고가 없거나 가용 수량 부족
+     */
+    public void apply(
+            Map<Long, Integer> changes,
+            Long referenceId,
+            String referenceType,
+            InventoryChangeType changeType,
+            String remark
+    ) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("재고 원장 변경은 트랜잭션 안에서만 가능합니다.");
+        }
+
+        // 부품 id 순서로 처리 (락 획득 순서 고정)
+        SortedMap<Long, Integer> sorted = new TreeMap<>(changes);
+        List<Entry> targets = new ArrayList<>(sorted.size());
+        for (Long partId : sorted.keySet()) {
+            Entry entry = entry(partId);
+            if (entry == null) {
+                throw new IllegalStateException("재고가 존재하지 않습니다. partId=" + partId);
+            }
+            targets.add(entry);
+        }
+
+        int[] stripes = stripesOf(sorted.keySet());
+        LocalDateTime now = LocalDateTime.now();
+        List<HistoryRow> histories = new ArrayList<>(targets.size());
+
+        lock(stripes);
+        try {
+            int i = 0;
+            for (Integer change : sorted.values()) {
+                Entry entry = targets.get(i++);
+                if (change < 0 && entry.available() + change < 0) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "재고 부족 [%s] 필요:%d / 현재:%d",
+                                    entry.partName,
+                                    -change,
+                                    entry.available()
+                            )
+                    );
+                }
+            }
+
+            i = 0;
+            for (Integer change : sorted.values()) {
+                Entry entry = targets.get(i++);
+                int afterQty = entry.available() + change;
+                if (change < 0) entry.pendingOut -= change;
+                histories.add(new HistoryRow(
+                        entry.partId, change, afterQty, referenceId, referenceType, now, changeType, remark));
+            }
+        } finally {
+            unlock(stripes);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(targets, sorted.values(), stripes, status == STATUS_COMMITTED);
+            }
+        });
+
+        inventoryJdbcRepository.batchInsertHistory(histories);
+    }
+
+    /**
+     * 재고 조회 (락 없음)
+     */
+    public Optional<InventoryResponse> get(Long partId) {
+        Entry entry = entry(partId);
+        return entry != null ? Optional.of(entry.toResponse()) : Optional.empty();
+    }
+
+    /**
+     * 전체 재고 조회 (락 없음)
+     */
+    public List<InventoryResponse> getAll() {
+        List<InventoryResponse> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            result.add(entry.toResponse());
+        }
+        result.sort(Comparator.comparing(InventoryResponse::getInventoryId));
+        return result;
+    }
+
+    public boolean contains(Long partId) {
+        return entry(partId) != null;
+    }
+
+    /**
+     * 재고 신규 생성 / 메타데이터 변경 후 DB 에서 다시 적재 (예약 중인 수량은 유지)
+     */
+    public void refresh(Long partId) {
+        int stripe = stripeOf(partId);
+        locks[stripe].lock();
+        try {
+            Entry current = entries.get(partId);
+            Optional<LedgerRow> row = inventoryJdbcRepository.loadLedger(partId);
+            if (row.isEmpty()) {
+                entries.remove(partId);
+            } else if (current == null) {
+                entries.put(partId, new Entry(row.get()));
+            } else {
+                current.partName = row.get().partName();
+                current.safetyQty = row.get().safetyQty();
+            }
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 refresh (트랜잭션 밖이면 즉시)
+     */
+    public void refreshAfterCommit(Long partId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(partId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(partId);
+            }
+        });
+    }
+
+    private Entry entry(Long partId) {
+        Entry entry = entries.get(partId);
+        if (entry != null) return entry;
+
+        int stripe = stripeOf(partId);
+        locks[stripe].lock();
+        try {
+            entry = entries.get(partId);
+            if (entry == null) {
+                entry = inventoryJdbcRepository.loadLedger(partId).map(Entry::new).orElse(null);
+                if (entry != null) entries.put(partId, entry);
+            }
+            return entry;
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    private void complete(List<Entry> targets, Collection<Integer> changes, int[] stripes, boolean committed) {
+        lock(stripes);
+        try {
+            int i = 0;
+            for (Integer change : changes) {
+                Entry entry = targets.get(i++);
+                if (change < 0) entry.pendingOut += change;
+                if (committed) entry.onHand.addAndGet(change);
+            }
+        } finally {
+            unlock(stripes);
+        }
+    }
+
+    private int[] stripesOf(Collection<Long> partIds) {
+        return partIds.stream()
+                .mapToInt(InventoryLedger::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private static int stripeOf(Long partId) {
+        return (int) Math.floorMod(partId * 0x9E3779B97F4A7C15L >>> 32, (long) STRIPES);
+    }
+
+    private void lock(int[] stripes) {
+        for (int stripe : stripes) locks[stripe].lock();
+    }
+
+    private void unlock(int[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--) locks[stripes[i]].unlock();
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) locks[i] = new ReentrantLock();
+        return locks;
+    }
+
+    private static final class Entry {
+
+        private final long inventoryId;
+        private final long partId;
+        private volatile String partName;
+        private volatile int safetyQty;
+
+        // 커밋된 수량 (락 없이 읽음)
+        private final AtomicInteger onHand;
+
+        // 진행 중인 트랜잭션이 예약한 출고 수량 (stripe lock 으로 보호)
+        private int pendingOut;
+
+        Entry(LedgerRow row) {
+            this.inventoryId = row.inventoryId();
+            this.partId = row.partId();
+            this.partName = row.partName();
+            this.safetyQty = row.safetyQty();
+            this.onHand = new AtomicInteger(row.currentQty());
+        }
+
+        int available() {
+            return onHand.get() - pendingOut;
+        }
+
+        InventoryResponse toResponse() {
+            return InventoryResponse.builder()
+                    .inventoryId(inventoryId)
+                    .partId(partId)
+                    .partName(partName)
+                    .currentQty(onHand.get())
+                    .safetyQty(safetyQty)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.enumclass.InventoryChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * BOM 기준 재고 예약 (생산 시작 시 출고)
+ *
+ * - 부품별 필요 수량 합산 후 재고 원장에서 한 번에 출고
+ * - 원장이 부품 id 순서로 가용 수량 확인 / 예약 → 동시 시작 시에도 초과 출고 없음
+ * - 하나라도 부족하면 예외 → 예약 해제, 출고 이력도 트랜잭션과 함께 롤백
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryReservationService {
+
+    private final InventoryLedger inventoryLedger;
+
+    @Transactional
+    public void reserve(Long productionId, BomStructure bom, int plannedQty, String remark) {
+
+        // 부품별 출고 수량 (같은 부품이 여러 BOM 행에 있으면 합산)
+        SortedMap<Long, Integer> changes = new TreeMap<>();
+        for (int i = 0; i < bom.size(); i++) {
+            if (!inventoryLedger.contains(bom.partId(i))) {
+                throw new IllegalStateException("재고 없음 : " + bom.partName(i));
+            }
+            changes.merge(bom.partId(i), -bom.requiredQty(i) * plannedQty, Integer::sum);
+        }
+
+        inventoryLedger.apply(changes, productionId, "PRODUCTION", InventoryChangeType.OUT, remark);
+    }
+}
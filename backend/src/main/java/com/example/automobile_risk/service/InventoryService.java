@@ -10,15 +10,18 @@ import com.example.automobile_risk.exception.PartNotFoundException;
 import com.example.automobile_risk.repository.InventoryHistoryRepository;
 import com.example.automobile_risk.repository.InventoryRepository;
 import com.example.automobile_risk.repository.PartRepository;
+import com.example.automobile_risk.service.dto.InventoryHistoryCursorPage;
 import com.example.automobile_risk.service.dto.InventoryHistoryResponse;
 import com.example.automobile_risk.service.dto.InventoryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Transactional(readOnly = true)
@@ -29,6 +32,7 @@ public class InventoryService {
     private final InventoryRepository inventoryRepository;
     private final InventoryHistoryRepository inventoryHistoryRepository;
     private final PartRepository partRepository;
+    private final InventoryLedger inventoryLedger;
 
     /**
      *  1. 재고 생성
@@ -53,28 +57,40 @@ public class InventoryService {
         );
 
         inventoryHistoryRepository.save(inventoryHistory);
+        inventoryLedger.refreshAfterCommit(partId);
 
         return savedInventory.getId();
     }
 
     /**
      *  2. 재고 증감
+     *
+     *  - 실제 증감은 재고 원장을 통해 반영 (이력 write-ahead, current_qty 는 주기 반영)
+     *  - 계획(planned) 이력은 수량 변동 없이 기록만
      */
     @Transactional
     public void adjustInventory(InventoryAdjustForm form) {
 
+        if (!InventoryChangeType.isPlanned(form.getChangeType())) {
+            inventoryLedger.apply(
+                    Map.of(form.getPartId(), form.getQty()),
+                    null,
+                    null,
+                    form.getChangeType(),
+                    form.getRemark()
+            );
+            return;
+        }
+
         Inventory inventory = inventoryRepository.findByPartId(form.getPartId())
                 .orElseThrow(() -> new IllegalStateException("재고가 존재하지 않습니다."));
-
-        boolean planned = InventoryChangeType.isPlanned(form.getChangeType());
-        if (!planned) {
-            inventory.adjust(form.getQty());
-        }
+        InventoryResponse current = inventoryLedger.get(form.getPartId())
+                .orElseGet(() -> InventoryResponse.from(inventory));
 
         InventoryHistory history = InventoryHistory.of(
                 inventory.getPart(),
                 form.getQty(),
-                inventory.getCurrentQty(),
+                current.getCurrentQty(),
                 LocalDateTime.now(),
                 form.getChangeType(),
                 form.getRemark()
@@ -91,38 +107,65 @@ public class InventoryService {
         Inventory inventory = inventoryRepository.findByPartId(partId)
                 .orElseThrow(() -> new IllegalStateException("재고가 존재하지 않습니다."));
         inventory.updateSafetyQty(safetyQty);
+        inventoryLedger.refreshAfterCommit(partId);
     }
 
     /**
-     *  재고 단건 조회
+     *  재고 단건 조회 (재고 원장)
      */
     public InventoryResponse getInventory(Long partId) {
 
-        Inventory inventory = inventoryRepository.findByPartId(partId)
+        return inventoryLedger.get(partId)
                 .orElseThrow(() -> new IllegalStateException("재고가 존재하지 않습니다."));
-
-        return InventoryResponse.from(inventory);
     }
 
     /**
-     *  재고 이력 조회
+     *  재고 이력 조회 (최신 limit 건)
      */
-    public List<InventoryHistoryResponse> getHistory(Long partId) {
+    public List<InventoryHistoryResponse> getHistory(Long partId, int limit) {
 
-        return inventoryHistoryRepository.findByPartIdOrderByOccuredAtDesc(partId)
+        return inventoryHistoryRepository.findLatestByPartId(partId, PageRequest.of(0, limit))
                 .stream()
                 .map(InventoryHistoryResponse::from)
                 .toList();
     }
 
     /**
-     *  재고 전체 조회
+     *  재고 이력 keyset 페이지 (최신순, cursor 이전)
+     */
+    public InventoryHistoryCursorPage getHistoryPage(
+            Long partId,
+            LocalDateTime cursorOccuredAt,
+            Long cursorId,
+            int limit
+    ) {
+        if ((cursorOccuredAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorOccuredAt 과 cursorId 는 함께 지정해야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<InventoryHistory> rows = cursorId == null
+                ? inventoryHistoryRepository.findLatestByPartId(partId, page)
+                : inventoryHistoryRepository.findByPartIdBefore(partId, cursorOccuredAt, cursorId, page);
+
+        boolean hasNext = rows.size() > limit;
+        List<InventoryHistory> content = hasNext ? rows.subList(0, limit) : rows;
+        InventoryHistory last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return InventoryHistoryCursorPage.builder()
+                .content(content.stream().map(InventoryHistoryResponse::from).toList())
+                .hasNext(hasNext)
+                .nextOccuredAt(hasNext ? last.getOccuredAt() : null)
+                .nextId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     *  재고 전체 조회 (재고 원장)
      */
     public List<InventoryResponse> getList() {
 
-        return inventoryRepository.findAll()
-                .stream()
-                .map(InventoryResponse::from)
-                .toList();
+        return inventoryLedger.getAll();
     }
 }
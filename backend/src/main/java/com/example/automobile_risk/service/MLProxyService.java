@@ -633,7 +633,11 @@ public class MLProxyService {
         System.out.println("DUEDATE_ANALYZE_AFTER_CALL");
         try {
             DueDatePrediction prediction = buildDueDatePrediction(body, result);
-            dueDatePredictionService.save(prediction);
+            dueDatePredictionService.save(
+                    prediction,
+                    body != null ? body.toString() : null,
+                    result != null ? result.toString() : null
+            );
             log.info("DueDate ML saved: orderId={}, stage={}, delayFlag={}, delayProb={}",
                     prediction.getOrderId(),
                     prediction.getSnapshotStage(),
@@ -688,8 +692,6 @@ public class MLProxyService {
                 .delayFlag(delayFlag)
                 .delayProbability(delayProbability)
                 .predictedDelayMinutes(predictedDelayMinutes)
-                .requestJson(body != null ? body.toString() : null)
-                .responseJson(result != null ? result.toString() : null)
                 .build();
     }
 
@@ -0,0 +1,118 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.controller.dto.MrpWhatIfForm;
+import com.example.automobile_risk.entity.enumclass.OrderStatus;
+import com.example.automobile_risk.entity.enumclass.ProductionStatus;
+import com.example.automobile_risk.exception.VehicleModelNotFoundException;
+import com.example.automobile_risk.repository.OrderRepository;
+import com.example.automobile_risk.repository.ProductionRepository;
+import com.example.automobile_risk.repository.VehicleModelRepository;
+import com.example.automobile_risk.service.dto.InventoryResponse;
+import com.example.automobile_risk.service.dto.MrpLineResponse;
+import com.example.automobile_risk.service.dto.MrpResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 자재 소요량 계산 (MRP)
+ *
+ * - 수요: 계획 상태 생산 수량 + 열린 주문의 미할당 수량 (+ what-if 추가 수량)
+ *   (가동중 생산은 시작 시 이미 출고되었으므로 제외)
+ * - 차량 모델별로 수량을 먼저 합산한 뒤 캐시된 BOM 을 한 번씩만 곱한다
+ * - 재고는 재고 원장의 현재 수량 / 안전 재고와 비교
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MrpService {
+
+    private static final List<OrderStatus> OPEN_ORDER_STATUSES =
+            List.of(OrderStatus.CREATED, OrderStatus.PARTIALLY_ALLOCATED);
+
+    private final ProductionRepository productionRepository;
+    private final OrderRepository orderRepository;
+    private final VehicleModelRepository vehicleModelRepository;
+    private final BomCatalog bomCatalog;
+    private final InventoryLedger inventoryLedger;
+
+    public MrpResponse plan(List<MrpWhatIfForm.Item> additionalDemand) {
+
+        // 1. 차량 모델별 수요 합산
+        Map<Long, Long> demandByModel = new HashMap<>();
+
+        long plannedQty = 0;
+        for (Object[] row : productionRepository.sumPlannedQtyByVehicleModel(ProductionStatus.PLANNED)) {
+            long qty = ((Number) row[1]).longValue();
+            demandByModel.merge((Long) row[0], qty, Long::sum);
+            plannedQty += qty;
+        }
+
+        long unallocatedQty = 0;
+        for (Object[] row : orderRepository.findAllocationByStatusIn(OPEN_ORDER_STATUSES)) {
+            long qty = ((Number) row[1]).longValue() - ((Number) row[2]).longValue();
+            if (qty <= 0) continue;
+            demandByModel.merge((Long) row[0], qty, Long::sum);
+            unallocatedQty += qty;
+        }
+
+        long additionalQty = 0;
+        for (MrpWhatIfForm.Item item : additionalDemand) {
+            if (!vehicleModelRepository.existsById(item.getVehicleModelId())) {
+                throw new VehicleModelNotFoundException(item.getVehicleModelId());
+            }
+            demandByModel.merge(item.getVehicleModelId(), (long) item.getQty(), Long::sum);
+            additionalQty += item.getQty();
+        }
+
+        // 2. BOM 전개 (부품별 소요량)
+        Map<Long, Long> requiredByPart = new HashMap<>();
+        Map<Long, String> partNames = new HashMap<>();
+        for (Map.Entry<Long, Long> demand : demandByModel.entrySet()) {
+            BomStructure bom = bomCatalog.get(demand.getKey());
+            long qty = demand.getValue();
+            for (int i = 0; i < bom.size(); i++) {
+                requiredByPart.merge(bom.partId(i), bom.requiredQty(i) * qty, Long::sum);
+                partNames.putIfAbsent(bom.partId(i), bom.partName(i));
+            }
+        }
+
+        // 3. 재고 대비 부족분
+        List<MrpLineResponse> lines = new ArrayList<>(requiredByPart.size());
+        int shortagePartCount = 0;
+        for (Map.Entry<Long, Long> entry : requiredByPart.entrySet()) {
+            Long partId = entry.getKey();
+            long required = entry.getValue();
+            Optional<InventoryResponse> inventory = inventoryLedger.get(partId);
+            int currentQty = inventory.map(InventoryResponse::getCurrentQty).orElse(0);
+            int safetyQty = inventory.map(InventoryResponse::getSafetyQty).orElse(0);
+
+            long shortage = Math.max(0, required - currentQty);
+            if (shortage > 0) shortagePartCount++;
+
+            lines.add(MrpLineResponse.builder()
+                    .partId(partId)
+                    .partName(partNames.get(partId))
+                    .requiredQty(required)
+                    .currentQty(currentQty)
+                    .safetyQty(safetyQty)
+                    .shortageQty(shortage)
+                    .safetyShortageQty(Math.max(0, required + safetyQty - currentQty))
+                    .build());
+        }
+        lines.sort(Comparator.comparingLong(MrpLineResponse::getSafetyShortageQty).reversed()
+                .thenComparing(MrpLineResponse::getPartId));
+
+        return MrpResponse.builder()
+                .plannedProductionQty(plannedQty)
+                .unallocatedOrderQty(unallocatedQty)
+                .additionalQty(additionalQty)
+                .shortagePartCount(shortagePartCount)
+                .lines(lines)
+                .build();
+    }
+}
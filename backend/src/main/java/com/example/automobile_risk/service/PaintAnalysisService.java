@@ -1,20 +1,39 @@
 package com.example.automobile_risk.service;
 
+import com.example.automobile_risk.dto.PaintAnalysisCursorPage;
 import com.example.automobile_risk.dto.PaintAnalysisResponse;
+import com.example.automobile_risk.dto.PaintHourlyStatisticsResponse;
 import com.example.automobile_risk.dto.PaintStatisticsResponse;
 import com.example.automobile_risk.entity.DetectedDefect;
 import com.example.automobile_risk.entity.PaintAnalysisResult;
+import com.example.automobile_risk.exception.BulkIngestException;
 import com.example.automobile_risk.repository.DetectedDefectRepository;
+import com.example.automobile_risk.repository.PaintAnalysisJdbcRepository;
 import com.example.automobile_risk.repository.PaintAnalysisResultRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,24 +42,136 @@ public class PaintAnalysisService {
     
     private final PaintAnalysisResultRepository paintAnalysisResultRepository;
     private final DetectedDefectRepository detectedDefectRepository;
+    private final PaintStatisticsCounter paintStatisticsCounter;
+    private final PaintAnalysisJdbcRepository paintAnalysisJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    
+    // 대량 적재 시 한 번에 batch insert 하는 결과 수
+    private static final int BULK_CHUNK_SIZE = 1000;
     
     /**
-     * 분석 결과 저장
+     * 분석 결과 저장 (커밋 후 통계 카운터 누적)
      */
     @Transactional
     public PaintAnalysisResult saveAnalysisResult(PaintAnalysisResult result) {
-        return paintAnalysisResultRepository.save(result);
+        PaintAnalysisResult saved = paintAnalysisResultRepository.save(result);
+        afterCommit(() -> paintStatisticsCounter.record(saved));
+        return saved;
+    }
+    
+    /**
+     * 분석 결과 대량 저장 (JSON 배열, 한 트랜잭션)
+     *
+     * @return 생성된 id (입력 순서)
+     */
+    @Transactional
+    public List<Long> saveBulk(List<PaintAnalysisResult> results) {
+        List<Long> ids = new ArrayList<>(results.size());
+        for (int from = 0; from < results.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, results.size());
+            ids.addAll(insertChunk(results.subList(from, to)));
+        }
+        return ids;
+    }
+    
+    /**
+     * 분석 결과 대량 저장 (NDJSON 스트림)
+     * - 한 줄에 결과 하나 (detectedDefects 포함 가능)
+     * - BULK_CHUNK_SIZE 단위로 나누어 청크마다 커밋
+     * - 중간에 실패하면 그때까지 커밋된 건수와 다시 보낼 시작 줄을 BulkIngestException 으로 알림
+     *   (같은 파일을 fromLine 부터 다시 보내면 커밋된 resultId 와 충돌하지 않고 이어서 적재)
+     *
+     * @param fromLine 이 줄(1부터)부터 적재, 앞의 줄은 건너뜀
+     * @return 생성된 id (입력 순서)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Long> saveBulkNdjson(InputStream body, long fromLine) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        
+        List<Long> ids = new ArrayList<>();
+        List<PaintAnalysisResult> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        long lineNo = 0;
+        long committedThroughLine = Math.max(fromLine, 1) - 1;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo < fromLine || line.isBlank()) continue;
+                chunk.add(objectMapper.readValue(line, PaintAnalysisResult.class));
+                
+                if (chunk.size() >= BULK_CHUNK_SIZE) {
+                    List<PaintAnalysisResult> batch = chunk;
+                    ids.addAll(tx.execute(status -> insertChunk(batch)));
+                    committedThroughLine = lineNo;
+                    chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<PaintAnalysisResult> batch = chunk;
+                ids.addAll(tx.execute(status -> insertChunk(batch)));
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new BulkIngestException(ids.size(), committedThroughLine + 1, e);
+        }
+        return ids;
+    }
+    
+    private List<Long> insertChunk(List<PaintAnalysisResult> batch) {
+        for (PaintAnalysisResult result : batch) {
+            validate(result);
+        }
+        List<Long> ids = paintAnalysisJdbcRepository.batchInsert(batch);
+        afterCommit(() -> batch.forEach(paintStatisticsCounter::record));
+        return ids;
+    }
+    
+    private static void validate(PaintAnalysisResult result) {
+        if (result.getResultId() == null || result.getImageFilename() == null || result.getStatus() == null) {
+            throw new IllegalArgumentException("resultId, imageFilename, status 는 필수입니다.");
+        }
+        if (result.getDetectedDefects() == null) return;
+        for (DetectedDefect defect : result.getDetectedDefects()) {
+            if (defect.getDefectClass() == null) {
+                throw new IllegalArgumentException("defectClass 는 필수입니다. resultId=" + result.getResultId());
+            }
+        }
     }
     
     /**
-     * 전체 분석 이력 조회 (최신순)
+     * 최근 분석 이력 조회 (최신순 limit 건)
      */
     @Transactional(readOnly = true)
-    public List<PaintAnalysisResponse> getAllAnalysisHistory() {
-        List<PaintAnalysisResult> results = paintAnalysisResultRepository.findTop100ByOrderByAnalyzedAtDesc();
-        return results.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public List<PaintAnalysisResponse> getAllAnalysisHistory(int limit) {
+        return toResponses(paintAnalysisResultRepository.findLatest(PageRequest.of(0, limit)));
+    }
+    
+    /**
+     * 분석 이력 keyset 페이지 (최신순, cursor 이전)
+     */
+    @Transactional(readOnly = true)
+    public PaintAnalysisCursorPage getAnalysisHistoryPage(LocalDateTime cursorAnalyzedAt, Long cursorId, int limit) {
+        if ((cursorAnalyzedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorAnalyzedAt 과 cursorId 는 함께 지정해야 합니다.");
+        }
+        
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<PaintAnalysisResult> rows = cursorId == null
+                ? paintAnalysisResultRepository.findLatest(page)
+                : paintAnalysisResultRepository.findBefore(cursorAnalyzedAt, cursorId, page);
+        
+        boolean hasNext = rows.size() > limit;
+        List<PaintAnalysisResult> content = hasNext ? rows.subList(0, limit) : rows;
+        PaintAnalysisResult last = content.isEmpty() ? null : content.get(content.size() - 1);
+        
+        return new PaintAnalysisCursorPage(
+                toResponses(content),
+                hasNext,
+                hasNext ? last.getAnalyzedAt() : null,
+                hasNext ? last.getId() : null
+        );
     }
     
     /**
@@ -53,18 +184,37 @@ public class PaintAnalysisService {
     }
     
     /**
-     * 오늘의 통계 조회
+     * 오늘의 통계 조회 (메모리 카운터, 재구성 전이면 DB 집계)
      */
     @Transactional(readOnly = true)
     public PaintStatisticsResponse getTodayStatistics() {
+        if (paintStatisticsCounter.isReady()) {
+            return paintStatisticsCounter.today();
+        }
+        return getTodayStatisticsFromDb();
+    }
+    
+    /**
+     * 최근 n 시간 통계 (메모리 카운터)
+     */
+    public List<PaintHourlyStatisticsResponse> getHourlyStatistics(int hours) {
+        return paintStatisticsCounter.recentHours(hours);
+    }
+    
+    /**
+     * 오늘의 통계 DB 집계
+     */
+    @Transactional(readOnly = true)
+    public PaintStatisticsResponse getTodayStatisticsFromDb() {
         LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
         
-        Long totalInspections = paintAnalysisResultRepository.countByAnalyzedAtAfter(startOfDay);
-        Long passedInspections = paintAnalysisResultRepository.countByStatusAndAnalyzedAtAfter("PASS", startOfDay);
-        Long failedInspections = paintAnalysisResultRepository.countByStatusAndAnalyzedAtAfter("FAIL", startOfDay);
-        Long warningInspections = paintAnalysisResultRepository.countByStatusAndAnalyzedAtAfter("WARNING", startOfDay);
-        Long defectCount = detectedDefectRepository.countByDetectedAtAfter(startOfDay);
-        Double avgConfidence = paintAnalysisResultRepository.getAverageConfidenceAfter(startOfDay);
+        Object[] row = paintAnalysisResultRepository.aggregateSince(startOfDay).get(0);
+        Long totalInspections = toLong(row[0]);
+        Long passedInspections = toLong(row[1]);
+        Long failedInspections = toLong(row[2]);
+        Long warningInspections = toLong(row[3]);
+        Double avgConfidence = row[4] != null ? ((Number) row[4]).doubleValue() : null;
+        Long defectCount = toLong(row[5]);
         
         if (totalInspections == null) totalInspections = 0L;
         if (passedInspections == null) passedInspections = 0L;
@@ -84,15 +234,61 @@ public class PaintAnalysisService {
                 defectCount,
                 defectRate,
                 passRate,
-                avgConfidence
+                avgConfidence,
+                defectCountByClass(startOfDay)
         );
     }
     
+    private Map<String, Long> defectCountByClass(LocalDateTime startDate) {
+        Map<String, Long> byClass = new TreeMap<>();
+        for (Object[] row : detectedDefectRepository.countByDefectTypeAfter(startDate)) {
+            byClass.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return byClass;
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+    
+    /**
+     * 여러 결과 변환 (결함은 resultId IN 한 번으로 조회)
+     */
+    private List<PaintAnalysisResponse> toResponses(List<PaintAnalysisResult> results) {
+        if (results.isEmpty()) return List.of();
+        
+        List<String> resultIds = results.stream().map(PaintAnalysisResult::getResultId).toList();
+        Map<String, List<DetectedDefect>> defectsByResult = detectedDefectRepository.findByResultIdIn(resultIds)
+                .stream()
+                .collect(Collectors.groupingBy(DetectedDefect::getResultId));
+        
+        return results.stream()
+                .map(r -> convertToResponse(r, defectsByResult.getOrDefault(r.getResultId(), List.of())))
+                .collect(Collectors.toList());
+    }
+    
     /**
      * Entity를 Response DTO로 변환
      */
     private PaintAnalysisResponse convertToResponse(PaintAnalysisResult result) {
-        List<PaintAnalysisResponse.DefectDetail> defectDetails = result.getDetectedDefects().stream()
+        return convertToResponse(result, result.getDetectedDefects());
+    }
+    
+    private PaintAnalysisResponse convertToResponse(PaintAnalysisResult result, List<DetectedDefect> defects) {
+        List<PaintAnalysisResponse.DefectDetail> defectDetails = defects.stream()
                 .map(defect -> new PaintAnalysisResponse.DefectDetail(
                         defect.getDefectClass(),
                         defect.getDefectNameKo(),
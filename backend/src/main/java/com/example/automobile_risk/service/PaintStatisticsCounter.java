@@ -0,0 +1,252 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.PaintHourlyStatisticsResponse;
+import com.example.automobile_risk.dto.PaintStatisticsResponse;
+import com.example.automobile_risk.entity.DetectedDefect;
+import com.example.automobile_risk.entity.PaintAnalysisResult;
+import com.example.automobile_risk.repository.DetectedDefectRepository;
+import com.example.automobile_risk.repository.PaintAnalysisResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도장 검사 통계 메모리 카운터 (일 / 시간 단위)
+ *
+ * - 분석 결과 저장 커밋 후 해당 일 / 시간 카운터에 누적 → 통계 조회는 DB 없이 O(1)
+ * - 기동 시 보관 기간(일) 만큼 DB 에서 시간 단위로 집계해 재구성
+ *   집계와 집계된 결과 id 조회는 한 스냅샷(REPEATABLE READ)에서 수행
+ *   → 재구성에 포함된 결과는 누적에서 건너뛰고, 나머지(과거 analyzedAt 으로 backfill 된 결과 포함)는 누적에서만 센다
+ * - 재구성 전에 들어온 누적은 보류했다가 재구성 직후 같은 기준으로 반영
+ * - 재구성 전에는 ready=false → 호출 측이 DB 통계로 대체
+ * - 변경이 있으면 1초 주기로 SSE 구독자에게 오늘 통계 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaintStatisticsCounter {
+
+    private static final int RETAIN_HOURS = 48;
+
+    private final PaintAnalysisResultRepository paintAnalysisResultRepository;
+    private final DetectedDefectRepository detectedDefectRepository;
+    private final PaintStatisticsSseService paintStatisticsSseService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${paint.statistics.retain-days:7}")
+    private int retainDays;
+
+    private final Map<LocalDate, Counts> days = new ConcurrentHashMap<>();
+    private final Map<LocalDateTime, Counts> hours = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+    // 재구성 집계에 포함된 분석 결과 id (정렬)
+    private long[] rebuiltIds = new long[0];
+    // 재구성 전에 들어온 누적 (Tomcat 은 ApplicationReadyEvent 전부터 요청을 받음)
+    private final List<PaintAnalysisResult> pending = new ArrayList<>();
+    private volatile boolean dirty;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime from = LocalDate.now().minusDays(retainDays - 1L).atStartOfDay();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        tx.executeWithoutResult(status -> load(from));
+
+        synchronized (pending) {
+            ready = true;
+            pending.forEach(this::accumulate);
+            pending.clear();
+        }
+        dirty = true;
+        log.info("[Paint statistics] rebuilt from {} (days={}, hours={}, results={})",
+                from, days.size(), hours.size(), rebuiltIds.length);
+    }
+
+    private void load(LocalDateTime from) {
+        rebuiltIds = paintAnalysisResultRepository.findIdsAnalyzedSince(from).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+
+        for (Object[] row : paintAnalysisResultRepository.aggregateByHourSince(from)) {
+            LocalDateTime hour = toLocalDateTime(row[0]);
+            long total = ((Number) row[1]).longValue();
+            long passed = ((Number) row[2]).longValue();
+            long failed = ((Number) row[3]).longValue();
+            long warning = ((Number) row[4]).longValue();
+            double confidenceSum = ((Number) row[5]).doubleValue();
+            long confidenceCount = ((Number) row[6]).longValue();
+
+            for (Counts c : targets(hour)) {
+                c.total.add(total);
+                c.passed.add(passed);
+                c.failed.add(failed);
+                c.warning.add(warning);
+                c.confidenceSum.add(confidenceSum);
+                c.confidenceCount.add(confidenceCount);
+            }
+        }
+
+        for (Object[] row : detectedDefectRepository.countByHourAndDefectClassSince(from)) {
+            LocalDateTime hour = toLocalDateTime(row[0]);
+            long count = ((Number) row[2]).longValue();
+            for (Counts c : targets(hour)) {
+                c.addDefects((String) row[1], count);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 저장된 분석 결과 누적 (커밋 후 호출)
+     */
+    public void record(PaintAnalysisResult result) {
+        if (!ready) {
+            synchronized (pending) {
+                if (!ready) {
+                    pending.add(result);
+                    return;
+                }
+            }
+        }
+        accumulate(result);
+    }
+
+    private void accumulate(PaintAnalysisResult result) {
+        // 재구성 스냅샷에 이미 포함된 결과
+        if (result.getId() != null && Arrays.binarySearch(rebuiltIds, result.getId()) >= 0) return;
+
+        LocalDateTime analyzedAt = result.getAnalyzedAt() != null ? result.getAnalyzedAt() : LocalDateTime.now();
+
+        for (Counts c : targets(analyzedAt)) {
+            c.total.increment();
+            if ("PASS".equals(result.getStatus())) c.passed.increment();
+            else if ("FAIL".equals(result.getStatus())) c.failed.increment();
+            else if ("WARNING".equals(result.getStatus())) c.warning.increment();
+            if (result.getConfidence() != null) {
+                c.confidenceSum.add(result.getConfidence());
+                c.confidenceCount.increment();
+            }
+        }
+
+        if (result.getDetectedDefects() != null) {
+            for (DetectedDefect defect : result.getDetectedDefects()) {
+                LocalDateTime detectedAt = defect.getDetectedAt() != null ? defect.getDetectedAt() : analyzedAt;
+                for (Counts c : targets(detectedAt)) {
+                    c.addDefects(defect.getDefectClass(), 1);
+                }
+            }
+        }
+        dirty = true;
+    }
+
+    public PaintStatisticsResponse today() {
+        return toResponse(days.get(LocalDate.now()));
+    }
+
+    /**
+     * 최근 n 시간 통계 (오래된 순)
+     */
+    public List<PaintHourlyStatisticsResponse> recentHours(int n) {
+        LocalDateTime current = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        List<PaintHourlyStatisticsResponse> result = new ArrayList<>(n);
+        for (int i = n - 1; i >= 0; i--) {
+            LocalDateTime hour = current.minusHours(i);
+            result.add(new PaintHourlyStatisticsResponse(hour, toResponse(hours.get(hour))));
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void publishAndExpire() {
+        if (!ready) return;
+
+        if (dirty) {
+            dirty = false;
+            paintStatisticsSseService.publish(today());
+        }
+
+        LocalDate oldestDay = LocalDate.now().minusDays(retainDays - 1L);
+        LocalDateTime oldestHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(RETAIN_HOURS - 1L);
+        days.keySet().removeIf(d -> d.isBefore(oldestDay));
+        hours.keySet().removeIf(h -> h.isBefore(oldestHour));
+    }
+
+    private List<Counts> targets(LocalDateTime t) {
+        return List.of(
+                days.computeIfAbsent(t.toLocalDate(), k -> new Counts()),
+                hours.computeIfAbsent(t.truncatedTo(ChronoUnit.HOURS), k -> new Counts())
+        );
+    }
+
+    private static PaintStatisticsResponse toResponse(Counts c) {
+        if (c == null) c = new Counts();
+
+        long total = c.total.sum();
+        long passed = c.passed.sum();
+        long failed = c.failed.sum();
+        long confidenceCount = c.confidenceCount.sum();
+
+        Map<String, Long> byClass = new TreeMap<>();
+        long defectCount = 0;
+        for (Map.Entry<String, LongAdder> e : c.defectsByClass.entrySet()) {
+            long n = e.getValue().sum();
+            byClass.put(e.getKey(), n);
+            defectCount += n;
+        }
+
+        return new PaintStatisticsResponse(
+                total,
+                passed,
+                failed,
+                c.warning.sum(),
+                defectCount,
+                total > 0 ? (failed * 100.0 / total) : 0.0,
+                total > 0 ? (passed * 100.0 / total) : 0.0,
+                confidenceCount > 0 ? c.confidenceSum.sum() / confidenceCount : 0.0,
+                byClass
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+        if (value instanceof LocalDateTime ldt) return ldt;
+        return ((java.time.OffsetDateTime) value).toLocalDateTime();
+    }
+
+    private static final class Counts {
+        final LongAdder total = new LongAdder();
+        final LongAdder passed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder warning = new LongAdder();
+        final DoubleAdder confidenceSum = new DoubleAdder();
+        final LongAdder confidenceCount = new LongAdder();
+        final Map<String, LongAdder> defectsByClass = new ConcurrentHashMap<>();
+
+        void addDefects(String defectClass, long n) {
+            defectsByClass.computeIfAbsent(defectClass != null ? defectClass : "UNKNOWN", k -> new LongAdder()).add(n);
+        }
+    }
+}
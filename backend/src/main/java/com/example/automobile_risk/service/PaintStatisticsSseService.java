@@ -0,0 +1,50 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.PaintStatisticsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오늘의 도장 검사 통계 SSE 브로드캐스트
+ */
+@Slf4j
+@Service
+public class PaintStatisticsSseService {
+
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    public SseEmitter subscribe(PaintStatisticsResponse initial) {
+        SseEmitter emitter = new SseEmitter(0L);
+        emitters.add(emitter);
+
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError((e) -> emitters.remove(emitter));
+
+        if (initial != null) {
+            try {
+                emitter.send(SseEmitter.event().name("paint-statistics").data(initial));
+            } catch (IOException e) {
+                emitters.remove(emitter);
+            }
+        }
+        return emitter;
+    }
+
+    public void publish(PaintStatisticsResponse statistics) {
+        if (emitters.isEmpty()) return;
+
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("paint-statistics").data(statistics));
+            } catch (IOException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
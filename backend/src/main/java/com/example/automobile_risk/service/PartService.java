@@ -22,6 +22,8 @@ import java.util.stream.Collectors;
 public class PartService {
 
     private final PartRepository partRepository;
+    private final InventoryLedger inventoryLedger;
+    private final BomCatalog bomCatalog;
 
     /**
      *  1. 부품 등록
@@ -51,6 +53,8 @@ public class PartService {
                 partUpdateForm.getPartType(),
                 partUpdateForm.getUnit()
         );
+        inventoryLedger.refreshAfterCommit(part.getId());
+        bomCatalog.evictAllAfterCommit();
 
         return part.getId();
     }
@@ -65,6 +69,8 @@ public class PartService {
                 .orElseThrow(() -> new PartNotFoundException(partId));
 
         partRepository.deleteById(part.getId());
+        inventoryLedger.refreshAfterCommit(part.getId());
+        bomCatalog.evictAllAfterCommit();
 
         return part.getId();
     }
@@ -1,27 +1,241 @@
 package com.example.automobile_risk.service;
 
+import com.example.automobile_risk.entity.PressVibrationFeature;
+import com.example.automobile_risk.entity.ProcessExecution;
+import com.example.automobile_risk.exception.ProcessExecutionNotFoundException;
+import com.example.automobile_risk.repository.PressVibrationFeatureRepository;
+import com.example.automobile_risk.repository.ProcessExecutionRepository;
+import com.example.automobile_risk.repository.SensorDataJdbcRepository;
+import com.example.automobile_risk.service.dto.SensorValueWindow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
+/**
+ * 프레스 진동 특징량 추출
+ *
+ * - 공정수행의 설비에서 진동 센서 하나를 정해 (press.feature.sensor-id 설정, 없으면 sensor_id 가 가장 작은 센서)
+ *   시간 구간의 값을 primitive 배열로 읽어
+ *   RMS, peak, crest factor, kurtosis 를 한 번의 순회로 계산하고 FFT 로 대역별 에너지를 구한다.
+ * - 결과는 press_vibration_features 에 공정수행 단위로 저장 (재계산 시 갱신)
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class PressFeatureAggregationService {
 
+    private static final int BAND_COUNT = 4;
+
+    private final SensorDataJdbcRepository sensorDataJdbcRepository;
+    private final PressVibrationFeatureRepository pressVibrationFeatureRepository;
+    private final ProcessExecutionRepository processExecutionRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${press.feature.sensor-type:VIBRATION}")
+    private String vibrationSensorType;
+
+    // 설정 시 설비 센서 조회 없이 이 센서만 사용 (진동 센서가 여럿인 단일 프레스 설비용)
+    @Value("${press.feature.sensor-id:}")
+    private Long vibrationSensorId;
+
+    @Value("${press.feature.lookback-seconds:60}")
+    private long lookbackSeconds;
+
+    @Value("${press.feature.max-samples:65536}")
+    private int maxSamples;
+
     /**
-     * Stub implementation to keep InitDb wiring valid.
-     * Replace with real feature aggregation logic when available.
+     * 설비 / 구간의 진동 특징량 계산 후 저장
+     *
+     * @return 구간에 측정값이 없으면 empty
      */
-    public void generateTimeSeriesFeature(
+    @Transactional
+    public Optional<PressVibrationFeature> generateTimeSeriesFeature(
             Long processExecutionId,
             Long equipmentId,
             LocalDateTime startDate,
             LocalDateTime endDate
     ) {
-        log.info(
-                "PressFeatureAggregationService stub: processExecutionId={}, equipmentId={}, startDate={}, endDate={}",
-                processExecutionId, equipmentId, startDate, endDate
-        );
+        Long sensorId = vibrationSensorId != null
+                ? vibrationSensorId
+                : sensorDataJdbcRepository.findFirstSensorId(equipmentId, vibrationSensorType);
+        if (sensorId == null) {
+            log.info("No vibration sensor: processExecutionId={}, equipmentId={}", processExecutionId, equipmentId);
+            return Optional.empty();
+        }
+
+        SensorValueWindow window = sensorDataJdbcRepository.loadWindowBySensor(sensorId, startDate, endDate, maxSamples);
+        if (window.size() == 0) {
+            log.info("No vibration samples: processExecutionId={}, sensorId={}, {} ~ {}",
+                    processExecutionId, sensorId, startDate, endDate);
+            return Optional.empty();
+        }
+
+        PressVibrationFeature feature = pressVibrationFeatureRepository.findByProcessExecutionId(processExecutionId)
+                .orElseGet(() -> PressVibrationFeature.builder().processExecutionId(processExecutionId).build());
+        feature.setEquipmentId(equipmentId);
+        feature.setSensorId(sensorId);
+        feature.setWindowStart(startDate);
+        feature.setWindowEnd(endDate);
+        extract(window, feature);
+
+        return Optional.of(pressVibrationFeatureRepository.save(feature));
+    }
+
+    /**
+     * 공정수행 기준 특징량 계산 (시작 lookbackSeconds 전 ~ 종료 또는 현재)
+     * → 프레스 진동 모델 요청 본문, 측정값이 없으면 null
+     */
+    @Transactional
+    public JsonNode buildVibrationRequest(Long processExecutionId) {
+        ProcessExecution pe = processExecutionRepository.findById(processExecutionId)
+                .orElseThrow(() -> new ProcessExecutionNotFoundException(processExecutionId));
+        if (pe.getEquipment() == null || pe.getStartDate() == null) return null;
+
+        LocalDateTime from = pe.getStartDate().minusSeconds(lookbackSeconds);
+        LocalDateTime to = pe.getEndDate() != null ? pe.getEndDate() : LocalDateTime.now();
+
+        return generateTimeSeriesFeature(processExecutionId, pe.getEquipment().getId(), from, to)
+                .map(this::toRequest)
+                .orElse(null);
+    }
+
+    private JsonNode toRequest(PressVibrationFeature f) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("processExecutionId", f.getProcessExecutionId());
+        body.put("equipmentId", f.getEquipmentId());
+        body.put("sensorId", f.getSensorId());
+        body.put("sampleCount", f.getSampleCount());
+        body.put("sampleRateHz", f.getSampleRateHz());
+        body.put("mean", f.getMean());
+        body.put("rms", f.getRms());
+        body.put("peak", f.getPeak());
+        body.put("crestFactor", f.getCrestFactor());
+        body.put("kurtosis", f.getKurtosis());
+        body.putArray("bandEnergies")
+                .add(f.getBandEnergy1())
+                .add(f.getBandEnergy2())
+                .add(f.getBandEnergy3())
+                .add(f.getBandEnergy4());
+        return body;
+    }
+
+    /**
+     * 통계 특징량 (단일 순회, 온라인 중심 모멘트) + 대역 에너지
+     */
+    static void extract(SensorValueWindow window, PressVibrationFeature feature) {
+        double[] x = window.values();
+        int n = window.size();
+
+        double mean = 0, m2 = 0, m3 = 0, m4 = 0, sumSq = 0, peak = 0;
+        for (int i = 0; i < n; i++) {
+            double v = x[i];
+            double k = i + 1;
+            double delta = v - mean;
+            double deltaN = delta / k;
+            double deltaN2 = deltaN * deltaN;
+            double term = delta * deltaN * i;
+            mean += deltaN;
+            m4 += term * deltaN2 * (k * k - 3 * k + 3) + 6 * deltaN2 * m2 - 4 * deltaN * m3;
+            m3 += term * deltaN * (k - 2) - 3 * deltaN * m2;
+            m2 += term;
+
+            sumSq += v * v;
+            double abs = Math.abs(v);
+            if (abs > peak) peak = abs;
+        }
+
+        double rms = Math.sqrt(sumSq / n);
+        long[] t = window.epochMillis();
+        long durationMillis = t[n - 1] - t[0];
+
+        feature.setSampleCount(n);
+        feature.setSampleRateHz(durationMillis > 0 ? (n - 1) * 1000.0 / durationMillis : 0.0);
+        feature.setMean(mean);
+        feature.setRms(rms);
+        feature.setPeak(peak);
+        feature.setCrestFactor(rms > 0 ? peak / rms : 0.0);
+        feature.setKurtosis(m2 > 0 ? n * m4 / (m2 * m2) : 0.0);
+
+        double[] bands = bandEnergies(x, n, mean);
+        feature.setBandEnergy1(bands[0]);
+        feature.setBandEnergy2(bands[1]);
+        feature.setBandEnergy3(bands[2]);
+        feature.setBandEnergy4(bands[3]);
+    }
+
+    /**
+     * 최근 2^k 개 샘플의 FFT 파워를 0 ~ Nyquist 4개 대역으로 합산
+     */
+    private static double[] bandEnergies(double[] x, int n, double mean) {
+        double[] bands = new double[BAND_COUNT];
+        int size = Integer.highestOneBit(n);
+        if (size < 2 * BAND_COUNT) return bands;
+
+        double[] re = new double[size];
+        double[] im = new double[size];
+        int offset = n - size;
+        for (int i = 0; i < size; i++) {
+            re[i] = x[offset + i] - mean;
+        }
+        fft(re, im);
+
+        int half = size / 2;
+        for (int k = 1; k <= half; k++) {
+            double power = (re[k] * re[k] + im[k] * im[k]) / size;
+            int band = Math.min((k - 1) * BAND_COUNT / half, BAND_COUNT - 1);
+            bands[band] += power;
+        }
+        return bands;
+    }
+
+    /**
+     * in-place radix-2 FFT (길이는 2의 거듭제곱)
+     */
+    private static void fft(double[] re, double[] im) {
+        int n = re.length;
+
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double tr = re[i]; re[i] = re[j]; re[j] = tr;
+                double ti = im[i]; im[i] = im[j]; im[j] = ti;
+            }
+        }
+
+        for (int len = 2; len <= n; len <<= 1) {
+            double angle = -2 * Math.PI / len;
+            double wRe = Math.cos(angle);
+            double wIm = Math.sin(angle);
+            for (int i = 0; i < n; i += len) {
+                double curRe = 1, curIm = 0;
+                for (int j = 0; j < len / 2; j++) {
+                    int a = i + j;
+                    int b = a + len / 2;
+                    double vRe = re[b] * curRe - im[b] * curIm;
+                    double vIm = re[b] * curIm + im[b] * curRe;
+                    re[b] = re[a] - vRe;
+                    im[b] = im[a] - vIm;
+                    re[a] += vRe;
+                    im[a] += vIm;
+                    double nextRe = curRe * wRe - curIm * wIm;
+                    curIm = curRe * wIm + curIm * wRe;
+                    curRe = nextRe;
+                }
+            }
+        }
     }
 }
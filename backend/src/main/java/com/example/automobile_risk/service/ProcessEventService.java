@@ -3,6 +3,8 @@ package com.example.automobile_risk.service;
 import com.example.automobile_risk.controller.dto.ProcessEventCreateForm;
 import com.example.automobile_risk.entity.Order;
 import com.example.automobile_risk.entity.ProcessEvent;
+import com.example.automobile_risk.entity.enumclass.EventSource;
+import com.example.automobile_risk.entity.enumclass.EventType;
 import com.example.automobile_risk.repository.OrderRepository;
 import com.example.automobile_risk.repository.ProcessEventRepository;
 import com.example.automobile_risk.service.dto.ProcessEventResponse;
@@ -77,6 +79,31 @@ public class ProcessEventService {
         return saved.getId();
     }
 
+    /**
+     * 센서 스트리밍 이상 감지 이벤트 기록 (진행 중인 주문이 없으면 order 없이 기록)
+     */
+    @Transactional
+    public Long createSensorEvent(Order order, String process, String eventCode, int severity, boolean lineHold) {
+        ProcessEvent event = ProcessEvent.create(
+                order,
+                process,
+                EventType.BREAKDOWN,
+                eventCode,
+                severity,
+                LocalDateTime.now(),
+                null,
+                0,
+                lineHold,
+                EventSource.SENSOR
+        );
+
+        ProcessEvent saved = processEventRepository.save(event);
+        log.info("Created sensor ProcessEvent: orderId={}, process={}, eventCode={}, severity={}",
+                order != null ? order.getId() : null, process, eventCode, severity);
+
+        return saved.getId();
+    }
+
     @Transactional
     public void resolveEvent(Long eventId) {
         ProcessEvent event = processEventRepository.findById(eventId)
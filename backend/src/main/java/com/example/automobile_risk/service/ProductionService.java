@@ -4,7 +4,6 @@ import com.example.automobile_risk.controller.dto.ProductionCreateForm;
 import com.example.automobile_risk.controller.dto.ProductionUpdateForm;
 import com.example.automobile_risk.entity.*;
 import com.example.automobile_risk.entity.enumclass.DefectSnapshotStage;
-import com.example.automobile_risk.entity.enumclass.InventoryChangeType;
 import com.example.automobile_risk.exception.BomNotFoundException;
 import com.example.automobile_risk.exception.ProductionNotFoundException;
 import com.example.automobile_risk.exception.VehicleModelNotFoundException;
@@ -29,10 +28,9 @@ public class ProductionService {
 
     private final ProductionRepository productionRepository;
     private final ProcessExecutionRepository processExecutionRepository;
-    private final BomRepository bomRepository;
+    private final BomCatalog bomCatalog;
     private final VehicleModelRepository vehicleModelRepository;
-    private final InventoryRepository inventoryRepository;
-    private final InventoryHistoryRepository inventoryHistoryRepository;
+    private final InventoryReservationService inventoryReservationService;
     private final DefectSummaryService defectSummaryService;
     private final ProductionSimulationService productionSimulationService;
     private final ProductionSseService productionSseService;
@@ -95,54 +93,20 @@ public class ProductionService {
         VehicleModel vehicleModel = production.getVehicleModel();
         int plannedQty = production.getPlannedQty();
 
-        // 차량 기준 BOM 조회
-        List<Bom> bomList = bomRepository.findByVehicleModel(vehicleModel);
+        // 차량 기준 BOM 조회 (캐시)
+        BomStructure bom = bomCatalog.get(vehicleModel.getId());
 
-        if (bomList.isEmpty()) {
+        if (bom.isEmpty()) {
             throw new BomNotFoundException("BOM이 존재하지 않습니다.");
         }
 
-        // 재고 충분 여부 사전 검증
-        for (Bom bom : bomList) {
-            int requiredTotal = bom.getRequiredQty() * plannedQty;
-
-            Inventory inventory = inventoryRepository.findByPartId(bom.getPart().getId())
-                    .orElseThrow(() -> new IllegalStateException("재고 없음 : " + bom.getPart().getPartName()));
-
-            if (inventory.getCurrentQty() < requiredTotal) {
-                throw new IllegalStateException(
-                        String.format(
-                                "재고 부족 [%s] 필요:%d / 현재:%d",
-                                bom.getPart().getPartName(),
-                                requiredTotal,
-                                inventory.getCurrentQty()
-                        )
-                );
-            }
-        }
-
-        // 4. 재고 차감 + 이력 기록
-        for (Bom bom : bomList) {
-            int requiredTotal = bom.getRequiredQty() * plannedQty;
-
-            Inventory inventory = inventoryRepository.findByPartId(bom.getPart().getId())
-                    .orElseThrow(() -> new IllegalStateException("재고 없음 : " + bom.getPart().getPartName()));
-
-            inventory.adjust(-requiredTotal);
-
-            InventoryHistory history = InventoryHistory.of(
-                    bom.getPart(),
-                    -requiredTotal,
-                    inventory.getCurrentQty(),
-                    LocalDateTime.now(),
-                    InventoryChangeType.OUT,
-                    null
-            );
-            history.setReference(productionId, "PRODUCTION");
-            history.setRemark(vehicleModel.getModelName() + " (" + plannedQty + ")");
-
-            inventoryHistoryRepository.save(history);
-        }
+        // 재고 예약 (재고 원장 일괄 출고)
+        inventoryReservationService.reserve(
+                productionId,
+                bom,
+                plannedQty,
+                vehicleModel.getModelName() + " (" + plannedQty + ")"
+        );
 
         // 5. 생산 시작
         production.start();
@@ -45,7 +45,8 @@ public class ProductionSimulationService {
     private final DefectSummaryService defectSummaryService;
     private final MLProxyService mlProxyService;
     private final ProductionDatasetService productionDatasetService;
-    private final DueDatePredictionTriggerService dueDatePredictionTriggerService;
+    private final DueDatePredictionTriggerQueue dueDatePredictionTriggerQueue;
+    private final PressFeatureAggregationService pressFeatureAggregationService;
 
     @Value("${datasets.base-path:}")
     private String datasetsBasePath;
@@ -158,7 +159,7 @@ public class ProductionSimulationService {
                     if (snapshotStage != null) {
                         log.info("Trigger duedate: productionId={}, processName={}, stage={}",
                                 productionId, processType.getProcessName(), snapshotStage);
-                        dueDatePredictionTriggerService.triggerOnStage(productionId, snapshotStage);
+                        dueDatePredictionTriggerQueue.submit(productionId, snapshotStage);
                     } else {
                         log.warn("Skip duedate: productionId={}, processName={} (stage mapping missing)",
                                 productionId, processType.getProcessName());
@@ -201,6 +202,18 @@ public class ProductionSimulationService {
         });
     }
 
+    /**
+     * 설비 진동 센서 특징량으로 프레스 진동 분석 (측정값이 없으면 offset 시뮬레이션 입력 사용)
+     */
+    private void analyzePressVibrationFromSensors(Long processExecutionId, int offset, MLProxyService.MlContext context) {
+        JsonNode features = pressFeatureAggregationService.buildVibrationRequest(processExecutionId);
+        if (features != null) {
+            mlProxyService.analyzePressVibrationJson(features, context);
+        } else {
+            mlProxyService.analyzePressVibration(offset, context);
+        }
+    }
+
     private Equipment pickEquipment(Long processTypeId) {
         List<Equipment> normals = equipmentRepository.findByProcessTypeAndStatus(processTypeId, EquipmentStatus.NORMAL);
         if (normals != null && !normals.isEmpty()) return normals.get(0);
@@ -291,10 +304,10 @@ public class ProductionSimulationService {
                         if (body != null) {
                             mlProxyService.analyzePressVibrationJson(body, context);
                         } else {
-                            mlProxyService.analyzePressVibration(offset, context);
+                            analyzePressVibrationFromSensors(processExecutionId, offset, context);
                         }
                     } else {
-                        mlProxyService.analyzePressVibration(offset, context);
+                        analyzePressVibrationFromSensors(processExecutionId, offset, context);
                     }
                     if (pressImageDataset != null && pressImageDataset.getFormat() == DatasetFormat.IMAGE) {
                         java.io.File file = pickDatasetFile(pressImageDataset, Math.max(0, unitIndex - 1));
@@ -0,0 +1,215 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.enumclass.EquipmentStatus;
+import com.example.automobile_risk.service.dto.SensorAnomalyAlert;
+import com.example.automobile_risk.service.dto.SensorSample;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 센서 수집 경로의 스트리밍 이상 감지 (EWMA z-score + 양방향 CUSUM)
+ *
+ * - 센서별 통계는 slot 번호로 접근하는 primitive 배열에 보관하고, 샘플당 O(1) 로 갱신
+ * - sensorId → slot 매핑도 primitive open addressing 테이블이라 샘플당 객체 생성이 없다
+ * - 경보는 레벨이 올라갈 때만 (정상 → 경고 → 중지) 발생, 센서별 cooldown 적용
+ */
+@Component
+public class SensorAnomalyDetector {
+
+    private static final byte NORMAL = 0;
+    private static final byte WARNING = 1;
+    private static final byte STOP = 2;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    @Value("${sensor-data.anomaly.alpha:0.05}")
+    private double alpha;
+
+    @Value("${sensor-data.anomaly.warmup-samples:30}")
+    private int warmupSamples;
+
+    @Value("${sensor-data.anomaly.z-warn:4.0}")
+    private double zWarn;
+
+    @Value("${sensor-data.anomaly.z-stop:6.0}")
+    private double zStop;
+
+    // CUSUM 허용 편차(k)와 임계값(h), 표준화된 값 기준
+    @Value("${sensor-data.anomaly.cusum-k:0.5}")
+    private double cusumK;
+
+    @Value("${sensor-data.anomaly.cusum-warn:8.0}")
+    private double cusumWarn;
+
+    @Value("${sensor-data.anomaly.cusum-stop:16.0}")
+    private double cusumStop;
+
+    @Value("${sensor-data.anomaly.cooldown-ms:60000}")
+    private long cooldownMillis;
+
+    // sensorId → slot (open addressing, key 0 = 빈 칸 → sensorId 0 의 slot 은 zeroKeySlot 에 따로 보관)
+    private long[] keys = new long[INITIAL_CAPACITY * 2];
+    private int[] slotOf = new int[INITIAL_CAPACITY * 2];
+    private int zeroKeySlot = -1;
+
+    private long[] count = new long[INITIAL_CAPACITY];
+    private double[] mean = new double[INITIAL_CAPACITY];
+    private double[] variance = new double[INITIAL_CAPACITY];
+    private double[] cusumPos = new double[INITIAL_CAPACITY];
+    private double[] cusumNeg = new double[INITIAL_CAPACITY];
+    private byte[] state = new byte[INITIAL_CAPACITY];
+    private long[] lastAlertAt = new long[INITIAL_CAPACITY];
+    private int slots;
+
+    /**
+     * 수집 배치 반영, 새로 발생한 경보 반환 (없으면 빈 리스트)
+     */
+    public synchronized List<SensorAnomalyAlert> observe(List<SensorSample> samples) {
+        List<SensorAnomalyAlert> alerts = Collections.emptyList();
+
+        for (int i = 0, n = samples.size(); i < n; i++) {
+            SensorSample sample = samples.get(i);
+            int s = slot(sample.sensorId());
+            double x = sample.value();
+
+            long c = ++count[s];
+            if (c == 1) {
+                mean[s] = x;
+                variance[s] = 0;
+                continue;
+            }
+
+            double sd = Math.sqrt(variance[s]);
+            double z = sd > 0 ? (x - mean[s]) / sd : 0.0;
+
+            // EWMA 평균 / 분산 갱신
+            double diff = x - mean[s];
+            double incr = alpha * diff;
+            mean[s] += incr;
+            variance[s] = (1 - alpha) * (variance[s] + diff * incr);
+
+            if (c <= warmupSamples) continue;
+
+            cusumPos[s] = Math.max(0, cusumPos[s] + z - cusumK);
+            cusumNeg[s] = Math.max(0, cusumNeg[s] - z - cusumK);
+            double cusum = Math.max(cusumPos[s], cusumNeg[s]);
+            double absZ = Math.abs(z);
+
+            byte level = NORMAL;
+            if (absZ >= zStop || cusum >= cusumStop) {
+                level = STOP;
+            } else if (absZ >= zWarn || cusum >= cusumWarn) {
+                level = WARNING;
+            }
+
+            if (level == NORMAL) {
+                if (cusum == 0) state[s] = NORMAL;
+                continue;
+            }
+            if (level <= state[s]) continue;
+
+            // 정상 복귀 후 재경보는 cooldown 이후에만 (경고 → 중지 상승은 즉시)
+            long now = sample.measuredAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            if (state[s] == NORMAL && lastAlertAt[s] != 0 && now - lastAlertAt[s] < cooldownMillis) continue;
+
+            state[s] = level;
+            lastAlertAt[s] = now;
+            if (alerts.isEmpty()) alerts = new ArrayList<>();
+            alerts.add(new SensorAnomalyAlert(
+                    sample.sensorId(),
+                    level == STOP ? EquipmentStatus.STOP : EquipmentStatus.WARNING,
+                    absZ >= zWarn ? "EWMA" : "CUSUM",
+                    x,
+                    z,
+                    cusum,
+                    sample.measuredAt()
+            ));
+            cusumPos[s] = 0;
+            cusumNeg[s] = 0;
+        }
+        return alerts;
+    }
+
+    /**
+     * 센서 삭제 시 통계 초기화 (slot 은 재사용하지 않음)
+     */
+    public synchronized void reset(long sensorId) {
+        int s = find(sensorId);
+        if (s < 0) return;
+        count[s] = 0;
+        cusumPos[s] = 0;
+        cusumNeg[s] = 0;
+        state[s] = NORMAL;
+        lastAlertAt[s] = 0;
+    }
+
+    private int slot(long sensorId) {
+        int found = find(sensorId);
+        if (found >= 0) return found;
+
+        if (slots == count.length) growSlots();
+        if (sensorId == 0) {
+            zeroKeySlot = slots++;
+            return zeroKeySlot;
+        }
+        if ((slots + 1) * 2 > keys.length) rehash(keys.length * 2);
+
+        int s = slots++;
+        int pos = probeStart(sensorId, keys.length);
+        while (keys[pos] != 0) pos = (pos + 1) & (keys.length - 1);
+        keys[pos] = sensorId;
+        slotOf[pos] = s;
+        return s;
+    }
+
+    /**
+     * sensorId 의 slot (없으면 -1)
+     */
+    private int find(long sensorId) {
+        if (sensorId == 0) return zeroKeySlot;
+
+        int mask = keys.length - 1;
+        int pos = probeStart(sensorId, keys.length);
+        while (keys[pos] != 0) {
+            if (keys[pos] == sensorId) return slotOf[pos];
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int probeStart(long key, int length) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (length - 1);
+    }
+
+    private void rehash(int newLength) {
+        long[] oldKeys = keys;
+        int[] oldSlots = slotOf;
+        keys = new long[newLength];
+        slotOf = new int[newLength];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int pos = probeStart(oldKeys[i], newLength);
+            while (keys[pos] != 0) pos = (pos + 1) & (newLength - 1);
+            keys[pos] = oldKeys[i];
+            slotOf[pos] = oldSlots[i];
+        }
+    }
+
+    private void growSlots() {
+        int newCapacity = count.length * 2;
+        count = Arrays.copyOf(count, newCapacity);
+        mean = Arrays.copyOf(mean, newCapacity);
+        variance = Arrays.copyOf(variance, newCapacity);
+        cusumPos = Arrays.copyOf(cusumPos, newCapacity);
+        cusumNeg = Arrays.copyOf(cusumNeg, newCapacity);
+        state = Arrays.copyOf(state, newCapacity);
+        lastAlertAt = Arrays.copyOf(lastAlertAt, newCapacity);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Equipment;
+import com.example.automobile_risk.entity.Order;
+import com.example.automobile_risk.entity.ProcessExecution;
+import com.example.automobile_risk.entity.Production;
+import com.example.automobile_risk.entity.Sensor;
+import com.example.automobile_risk.entity.enumclass.EquipmentStatus;
+import com.example.automobile_risk.repository.ProcessExecutionRepository;
+import com.example.automobile_risk.repository.SensorRepository;
+import com.example.automobile_risk.service.dto.SensorAnomalyAlert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 스트리밍 이상 감지 경보 처리
+ * - 설비 상태 상승 (경고 / 중지, 하향은 하지 않음)
+ * - 설비에서 진행 중인 주문 기준으로 ProcessEvent 기록
+ * - 수집 트랜잭션 커밋 이후 호출되므로 별도 트랜잭션으로 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SensorAnomalyService {
+
+    private final SensorRepository sensorRepository;
+    private final ProcessExecutionRepository processExecutionRepository;
+    private final ProcessEventService processEventService;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handle(List<SensorAnomalyAlert> alerts) {
+        for (SensorAnomalyAlert alert : alerts) {
+            Sensor sensor = sensorRepository.findById(alert.sensorId()).orElse(null);
+            if (sensor == null || sensor.getEquipment() == null) continue;
+
+            Equipment equipment = sensor.getEquipment();
+            boolean stop = alert.level() == EquipmentStatus.STOP;
+            if (stop) {
+                equipment.stop();
+            } else if (equipment.getStatus() == EquipmentStatus.NORMAL) {
+                equipment.warn();
+            }
+
+            String process = equipment.getProcessType() != null
+                    ? equipment.getProcessType().getProcessName()
+                    : equipment.getEquipmentName();
+
+            processEventService.createSensorEvent(
+                    findRunningOrder(equipment.getId()),
+                    process,
+                    "SENSOR_" + alert.rule(),
+                    stop ? 2 : 1,
+                    stop
+            );
+
+            log.warn("Sensor anomaly: sensorId={}, equipmentId={}, level={}, rule={}, value={}, z={}, cusum={}",
+                    alert.sensorId(), equipment.getId(), alert.level(), alert.rule(),
+                    alert.value(), alert.zScore(), alert.cusum());
+        }
+    }
+
+    private Order findRunningOrder(Long equipmentId) {
+        List<ProcessExecution> running =
+                processExecutionRepository.findInProgressByEquipmentId(equipmentId, PageRequest.of(0, 1));
+        if (running.isEmpty()) return null;
+
+        Production production = running.get(0).getProduction();
+        if (production == null || production.getOrderProductionList().isEmpty()) return null;
+        return production.getOrderProductionList().get(0).getOrder();
+    }
+}
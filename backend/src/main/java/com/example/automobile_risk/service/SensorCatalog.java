@@ -0,0 +1,36 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.repository.SensorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 센서 id 캐시
+ * - 대량 수집 시 센서 존재 검증을 측정값마다 DB 조회 없이 처리
+ * - 센서 삭제 시 evict
+ */
+@Component
+@RequiredArgsConstructor
+public class SensorCatalog {
+
+    private final SensorRepository sensorRepository;
+
+    private final Set<Long> knownSensorIds = ConcurrentHashMap.newKeySet();
+
+    public boolean contains(Long sensorId) {
+        if (sensorId == null) return false;
+        if (knownSensorIds.contains(sensorId)) return true;
+        if (sensorRepository.existsById(sensorId)) {
+            knownSensorIds.add(sensorId);
+            return true;
+        }
+        return false;
+    }
+
+    public void evict(Long sensorId) {
+        knownSensorIds.remove(sensorId);
+    }
+}
@@ -0,0 +1,482 @@
+package com.example.automobile_risk.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 센서 하루치 측정값 컬럼 압축 (Gorilla 방식, 블록 단위)
+ *
+ * 파일 구조 (big endian)
+ * - header: magic(int) | rowCount(int) | blockCount(int) | indexOffset(long)
+ * - 블록 (최대 BLOCK_ROWS 행, 각각 독립적으로 복원 가능)
+ *   count(int) | idBytes(int) | timeBytes(int) | valueBytes(int) | id 컬럼 | 시각 컬럼 | 값 컬럼
+ *   - id 컬럼: 직전 id 와의 차이 (1 이면 '0', 아니면 '1' + 6bit 길이 + zigzag 값)
+ *   - 시각 컬럼: epoch micros 의 delta-of-delta (0 / 7 / 14 / 24 / 64 bit 구간)
+ *     measured_at 이 timestamp(6) 이므로 마이크로초까지 그대로 보존
+ *   - 값 컬럼: 직전 값과의 XOR (0 이면 '0', 직전 leading/trailing 창 재사용 '10', 새 창 '11')
+ * - 블록 색인 (indexOffset 부터 블록마다): offset(long) | firstMicros(long) | lastMicros(long) | count(int)
+ *
+ * 읽기는 색인을 이분 탐색해 범위에 걸친 블록만 하나씩 복원한다 → 파일 크기와 무관하게 메모리는 블록 하나.
+ * 쓰기도 BLOCK_ROWS 행이 모일 때마다 블록을 기록하므로 하루치를 메모리에 모으지 않는다.
+ */
+final class SensorDataArchiveCodec {
+
+    static final int MAGIC = 0x53444133; // "SDA3" (SDA2 는 블록 없는 단일 컬럼, SDA1 은 밀리초 단위)
+    static final int HEADER_BYTES = 20;
+    static final int BLOCK_HEADER_BYTES = 16;
+    static final int INDEX_ENTRY_BYTES = 28;
+
+    // 블록당 최대 행 수 (복원 시 블록 하나 ≈ 100 KB)
+    static final int BLOCK_ROWS = 4096;
+
+    private SensorDataArchiveCodec() {
+    }
+
+    /**
+     * 복원된 블록 컬럼 (시각 오름차순)
+     */
+    record Columns(long[] ids, long[] epochMicros, double[] values, int size) {
+    }
+
+    static long toEpochMicros(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + t.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 블록 하나 인코딩 (블록 헤더 포함)
+     */
+    static byte[] encodeBlock(Columns columns) {
+        int n = columns.size();
+
+        BitWriter ids = new BitWriter(n);
+        long prevId = 0;
+        for (int i = 0; i < n; i++) {
+            long delta = columns.ids()[i] - prevId;
+            if (i > 0 && delta == 1) {
+                ids.writeBit(0);
+            } else {
+                long zigzag = (delta << 1) ^ (delta >> 63);
+                int bits = Math.max(1, 64 - Long.numberOfLeadingZeros(zigzag));
+                ids.writeBit(1);
+                ids.writeBits(bits - 1, 6);
+                ids.writeBits(zigzag, bits);
+            }
+            prevId = columns.ids()[i];
+        }
+
+        BitWriter times = new BitWriter(n);
+        long prevTime = 0;
+        long prevDelta = 0;
+        for (int i = 0; i < n; i++) {
+            long t = columns.epochMicros()[i];
+            if (i == 0) {
+                times.writeBits(t, 64);
+            } else {
+                long delta = t - prevTime;
+                long dod = delta - prevDelta;
+                if (dod == 0) {
+                    times.writeBit(0);
+                } else if (dod >= -63 && dod <= 64) {
+                    times.writeBits(0b10, 2);
+                    times.writeBits(dod + 63, 7);
+                } else if (dod >= -8191 && dod <= 8192) {
+                    times.writeBits(0b110, 3);
+                    times.writeBits(dod + 8191, 14);
+                } else if (dod >= -8_388_607 && dod <= 8_388_608) {
+                    times.writeBits(0b1110, 4);
+                    times.writeBits(dod + 8_388_607, 24);
+                } else {
+                    times.writeBits(0b1111, 4);
+                    times.writeBits(dod, 64);
+                }
+                prevDelta = delta;
+            }
+            prevTime = t;
+        }
+
+        BitWriter values = new BitWriter(n);
+        long prevBits = 0;
+        int prevLeading = -1;
+        int prevTrailing = 0;
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToRawLongBits(columns.values()[i]);
+            if (i == 0) {
+                values.writeBits(bits, 64);
+            } else {
+                long xor = bits ^ prevBits;
+                if (xor == 0) {
+                    values.writeBit(0);
+                } else {
+                    int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+                    int trailing = Long.numberOfTrailingZeros(xor);
+                    if (prevLeading >= 0 && leading >= prevLeading && trailing >= prevTrailing) {
+                        values.writeBits(0b10, 2);
+                        values.writeBits(xor >>> prevTrailing, 64 - prevLeading - prevTrailing);
+                    } else {
+                        int meaningful = 64 - leading - trailing;
+                        values.writeBits(0b11, 2);
+                        values.writeBits(leading, 5);
+                        values.writeBits(meaningful - 1, 6);
+                        values.writeBits(xor >>> trailing, meaningful);
+                        prevLeading = leading;
+                        prevTrailing = trailing;
+                    }
+                }
+            }
+            prevBits = bits;
+        }
+
+        byte[] idBytes = ids.toByteArray();
+        byte[] timeBytes = times.toByteArray();
+        byte[] valueBytes = values.toByteArray();
+
+        ByteBuffer out = ByteBuffer.allocate(BLOCK_HEADER_BYTES + idBytes.length + timeBytes.length + valueBytes.length);
+        out.putInt(n);
+        out.putInt(idBytes.length);
+        out.putInt(timeBytes.length);
+        out.putInt(valueBytes.length);
+        out.put(idBytes);
+        out.put(timeBytes);
+        out.put(valueBytes);
+        return out.array();
+    }
+
+    /**
+     * buffer 의 현재 position 부터 블록 하나 복원 (memory-mapped buffer 그대로 사용 가능)
+     */
+    static Columns decodeBlock(ByteBuffer buffer) {
+        return decodeBlock(buffer, buffer.position());
+    }
+
+    private static Columns decodeBlock(ByteBuffer buffer, int base) {
+        int n = buffer.getInt(base);
+        int idBytes = buffer.getInt(base + 4);
+        int timeBytes = buffer.getInt(base + 8);
+
+        int idStart = base + BLOCK_HEADER_BYTES;
+        int timeStart = idStart + idBytes;
+        int valueStart = timeStart + timeBytes;
+
+        long[] ids = new long[n];
+        BitReader idReader = new BitReader(buffer, idStart);
+        long prevId = 0;
+        for (int i = 0; i < n; i++) {
+            if (idReader.readBit() == 0) {
+                prevId += 1;
+            } else {
+                int bits = (int) idReader.readBits(6) + 1;
+                long zigzag = idReader.readBits(bits);
+                prevId += (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            ids[i] = prevId;
+        }
+
+        long[] times = new long[n];
+        BitReader timeReader = new BitReader(buffer, timeStart);
+        long prevTime = 0;
+        long prevDelta = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0) {
+                prevTime = timeReader.readBits(64);
+            } else {
+                long dod;
+                if (timeReader.readBit() == 0) {
+                    dod = 0;
+                } else if (timeReader.readBit() == 0) {
+                    dod = timeReader.readBits(7) - 63;
+                } else if (timeReader.readBit() == 0) {
+                    dod = timeReader.readBits(14) - 8191;
+                } else if (timeReader.readBit() == 0) {
+                    dod = timeReader.readBits(24) - 8_388_607;
+                } else {
+                    dod = timeReader.readBits(64);
+                }
+                prevDelta += dod;
+                prevTime += prevDelta;
+            }
+            times[i] = prevTime;
+        }
+
+        double[] values = new double[n];
+        BitReader valueReader = new BitReader(buffer, valueStart);
+        long prevBits = 0;
+        int prevLeading = 0;
+        int prevTrailing = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0) {
+                prevBits = valueReader.readBits(64);
+            } else if (valueReader.readBit() == 1) {
+                if (valueReader.readBit() == 1) {
+                    prevLeading = (int) valueReader.readBits(5);
+                    int meaningful = (int) valueReader.readBits(6) + 1;
+                    prevTrailing = 64 - prevLeading - meaningful;
+                }
+                long xor = valueReader.readBits(64 - prevLeading - prevTrailing) << prevTrailing;
+                prevBits ^= xor;
+            }
+            values[i] = Double.longBitsToDouble(prevBits);
+        }
+
+        return new Columns(ids, times, values, n);
+    }
+
+    /**
+     * 일자 파일 쓰기 ((시각, id) 오름차순으로 add → BLOCK_ROWS 행마다 블록 기록 → finish 에서 색인 / 헤더 기록)
+     */
+    static final class Writer {
+
+        private final FileChannel channel;
+        private final long[] ids = new long[BLOCK_ROWS];
+        private final long[] times = new long[BLOCK_ROWS];
+        private final double[] values = new double[BLOCK_ROWS];
+        private int size;
+
+        private long position = HEADER_BYTES;
+        private int rowCount;
+        private ByteBuffer index = ByteBuffer.allocate(INDEX_ENTRY_BYTES * 16);
+        private int blockCount;
+
+        Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void add(long id, long epochMicros, double value) throws IOException {
+            ids[size] = id;
+            times[size] = epochMicros;
+            values[size] = value;
+            size++;
+            if (size == BLOCK_ROWS) flushBlock();
+        }
+
+        /**
+         * @return 기록한 행 수
+         */
+        int finish() throws IOException {
+            flushBlock();
+
+            index.flip();
+            long indexOffset = position;
+            writeFully(index, indexOffset);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC);
+            header.putInt(rowCount);
+            header.putInt(blockCount);
+            header.putLong(indexOffset);
+            header.flip();
+            writeFully(header, 0);
+            return rowCount;
+        }
+
+        private void flushBlock() throws IOException {
+            if (size == 0) return;
+
+            byte[] block = encodeBlock(new Columns(ids, times, values, size));
+            if (index.remaining() < INDEX_ENTRY_BYTES) {
+                ByteBuffer grown = ByteBuffer.allocate(index.capacity() * 2);
+                index.flip();
+                grown.put(index);
+                index = grown;
+            }
+            index.putLong(position);
+            index.putLong(times[0]);
+            index.putLong(times[size - 1]);
+            index.putInt(size);
+
+            writeFully(ByteBuffer.wrap(block), position);
+            position += block.length;
+            rowCount += size;
+            blockCount++;
+            size = 0;
+        }
+
+        private void writeFully(ByteBuffer buffer, long at) throws IOException {
+            while (buffer.hasRemaining()) {
+                at += channel.write(buffer, at);
+            }
+        }
+    }
+
+    /**
+     * 일자 파일 읽기 (블록 색인만 읽고, 블록은 요청할 때 복원)
+     */
+    static final class DayFile {
+
+        private final ByteBuffer buffer;
+        private final int rowCount;
+        private final int blockCount;
+        private final int indexOffset;
+
+        DayFile(ByteBuffer buffer) {
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IllegalStateException("센서 아카이브 형식이 아닙니다.");
+            }
+            this.buffer = buffer;
+            this.rowCount = buffer.getInt(4);
+            this.blockCount = buffer.getInt(8);
+            this.indexOffset = Math.toIntExact(buffer.getLong(12));
+        }
+
+        int rowCount() {
+            return rowCount;
+        }
+
+        int blockCount() {
+            return blockCount;
+        }
+
+        long firstMicros(int block) {
+            return buffer.getLong(indexOffset + block * INDEX_ENTRY_BYTES + 8);
+        }
+
+        long lastMicros(int block) {
+            return buffer.getLong(indexOffset + block * INDEX_ENTRY_BYTES + 16);
+        }
+
+        Columns block(int block) {
+            return decodeBlock(buffer, Math.toIntExact(buffer.getLong(indexOffset + block * INDEX_ENTRY_BYTES)));
+        }
+
+        /**
+         * lastMicros >= micros 인 첫 블록 (없으면 blockCount)
+         */
+        int firstBlockEndingAtOrAfter(long micros) {
+            int lo = 0;
+            int hi = blockCount;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (lastMicros(mid) < micros) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /**
+         * [fromMicros, toMicros] 행을 순서대로 읽는 커서 (범위에 걸친 블록만 복원)
+         */
+        Cursor cursor(long fromMicros, long toMicros) {
+            return new Cursor(this, fromMicros, toMicros);
+        }
+    }
+
+    /**
+     * 일자 파일 행 커서 (한 번에 블록 하나만 복원해 보관)
+     */
+    static final class Cursor {
+
+        private final DayFile file;
+        private final long fromMicros;
+        private final long toMicros;
+        private int nextBlock;
+        private Columns block;
+        private int pos;
+
+        private Cursor(DayFile file, long fromMicros, long toMicros) {
+            this.file = file;
+            this.fromMicros = fromMicros;
+            this.toMicros = toMicros;
+            this.nextBlock = file.firstBlockEndingAtOrAfter(fromMicros);
+        }
+
+        /**
+         * 다음 행으로 이동
+         *
+         * @return 범위 안의 행이 더 없으면 false
+         */
+        boolean next() {
+            while (true) {
+                if (block != null && ++pos < block.size()) {
+                    long t = block.epochMicros()[pos];
+                    if (t > toMicros) break;
+                    if (t >= fromMicros) return true;
+                    continue;
+                }
+                if (nextBlock >= file.blockCount() || file.firstMicros(nextBlock) > toMicros) break;
+                block = file.block(nextBlock++);
+                pos = -1;
+            }
+            block = null;
+            nextBlock = file.blockCount();
+            return false;
+        }
+
+        long id() {
+            return block.ids()[pos];
+        }
+
+        long epochMicros() {
+            return block.epochMicros()[pos];
+        }
+
+        double value() {
+            return block.values()[pos];
+        }
+    }
+
+    private static final class BitWriter {
+
+        private byte[] buf;
+        private long bitPos;
+
+        BitWriter(int expectedCount) {
+            this.buf = new byte[Math.max(64, expectedCount * 2)];
+        }
+
+        void writeBit(int bit) {
+            writeBits(bit, 1);
+        }
+
+        void writeBits(long value, int count) {
+            for (int i = count - 1; i >= 0; i--) {
+                int byteIdx = (int) (bitPos >>> 3);
+                if (byteIdx >= buf.length) {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                }
+                if (((value >>> i) & 1L) != 0) {
+                    buf[byteIdx] |= (byte) (0x80 >>> (bitPos & 7));
+                }
+                bitPos++;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, (int) ((bitPos + 7) >>> 3));
+        }
+    }
+
+    private static final class BitReader {
+
+        private final ByteBuffer buffer;
+        private final int start;
+        private long bitPos;
+
+        BitReader(ByteBuffer buffer, int start) {
+            this.buffer = buffer;
+            this.start = start;
+        }
+
+        int readBit() {
+            int b = buffer.get(start + (int) (bitPos >>> 3));
+            int bit = (b >>> (7 - (bitPos & 7))) & 1;
+            bitPos++;
+            return bit;
+        }
+
+        long readBits(int count) {
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                value = (value << 1) | readBit();
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.SensorDataArchiveEpoch;
+import com.example.automobile_risk.repository.SensorDataArchiveEpochRepository;
+import com.example.automobile_risk.repository.SensorDataJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 오래된 SensorData 를 센서 / 일 단위 컬럼 압축 파일로 이관
+ *
+ * - 매일: afterDays 보다 오래된 측정값을 {dir}/{epoch}/{sensorId}/{yyyyMMdd}.sda 로 기록 후 DB 에서 삭제
+ * - epoch 는 DB 의 sensor_data_archive_epoch 행 → 스키마를 다시 만들면 새 세대가 되고 이전 세대 파일은 지운다
+ *   (id 가 다시 발급되므로 이전 파일이 남아 있으면 없는 측정값이 보이거나 같은 id 의 DB 행을 가린다)
+ * - 같은 일자 파일이 이미 있으면 병합 (늦게 들어온 측정값, 중단 후 재실행 시 id 중복 제거)
+ * - 파일은 BLOCK_ROWS 행 단위 블록 + 블록 색인 → 이관 / 병합 / 조회 모두 블록 하나씩만 메모리에 둔다
+ * - 조회: 기간에 해당하는 일자 파일을 memory-mapped 로 열고 범위에 걸친 블록만 복원 (SensorDataPeriodReader 가 DB 와 병합)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SensorDataArchiveService {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String FILE_SUFFIX = ".sda";
+
+    // 지워도 되는 디렉터리 이름: 세대(UUID) 또는 세대 도입 전 배치({sensorId})
+    private static final Pattern ARCHIVE_ENTRY = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}|\\d+");
+
+    private final SensorDataJdbcRepository sensorDataJdbcRepository;
+    private final SensorDataArchiveEpochRepository sensorDataArchiveEpochRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${sensor-data.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sensor-data.archive.dir:./data/sensor-archive}")
+    private String archiveDir;
+
+    @Value("${sensor-data.archive.after-days:21}")
+    private int afterDays;
+
+    @Value("${sensor-data.archive.max-days-per-run:7}")
+    private int maxDaysPerRun;
+
+    // 현재 세대 디렉터리 ({dir}/{epoch})
+    private Path epochDir;
+
+    /**
+     * 현재 스키마의 아카이브 세대를 정하고 다른 세대 디렉터리 삭제
+     */
+    @PostConstruct
+    public void initEpoch() {
+        sensorDataArchiveEpochRepository.insertIfAbsent(UUID.randomUUID().toString(), LocalDateTime.now());
+        String epoch = sensorDataArchiveEpochRepository.findById(SensorDataArchiveEpoch.SINGLETON_ID)
+                .map(SensorDataArchiveEpoch::getEpoch)
+                .orElseThrow(() -> new IllegalStateException("센서 아카이브 세대를 만들 수 없습니다."));
+
+        Path root = Paths.get(archiveDir);
+        epochDir = root.resolve(epoch);
+        if (!Files.isDirectory(root)) return;
+
+        try (Stream<Path> entries = Files.list(root)) {
+            entries.filter(Files::isDirectory)
+                    .filter(dir -> !dir.equals(epochDir))
+                    .filter(dir -> ARCHIVE_ENTRY.matcher(dir.getFileName().toString()).matches())
+                    .forEach(SensorDataArchiveService::deleteRecursively);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("SensorData archive epoch: {}", epochDir);
+    }
+
+    /**
+     * 오래된 측정값 이관 (매일 01:30, 한 번에 최대 maxDaysPerRun 일)
+     */
+    @Scheduled(cron = "${sensor-data.archive.cron:0 30 1 * * *}")
+    public void archiveColdData() {
+        if (!enabled) return;
+
+        LocalDateTime cutoff = LocalDate.now().minusDays(afterDays).atStartOfDay();
+        for (int i = 0; i < maxDaysPerRun; i++) {
+            LocalDateTime oldest = sensorDataJdbcRepository.findOldestMeasuredAtBefore(cutoff);
+            if (oldest == null) return;
+
+            LocalDate day = oldest.toLocalDate();
+            LocalDateTime from = day.atStartOfDay();
+            LocalDateTime to = from.plusDays(1);
+
+            long archived = 0;
+            for (Long sensorId : sensorDataJdbcRepository.findSensorIdsBetween(from, to)) {
+                archived += archiveSensorDay(sensorId, day);
+            }
+            log.info("SensorData archived: day={}, rows={}", day, archived);
+        }
+    }
+
+    /**
+     * 센서 하루치 이관 (파일 기록 → 같은 트랜잭션에서 DB 삭제)
+     * - DB 행을 시각순으로 읽으며 기존 파일 행과 병합해 임시 파일에 블록 단위로 기록 → 하루치를 메모리에 모으지 않음
+     */
+    public int archiveSensorDay(Long sensorId, LocalDate day) {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Integer rows = tx.execute(status -> {
+            Path file = fileOf(sensorId, day);
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(file.getParent());
+                int archived;
+                try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    DayMerge merge = new DayMerge(new SensorDataArchiveCodec.Writer(channel),
+                            Files.exists(file) ? openDay(file).cursor(Long.MIN_VALUE, Long.MAX_VALUE) : null);
+                    sensorDataJdbcRepository.streamSensorRange(sensorId, from, to, rs -> merge.add(
+                            rs.getLong(1),
+                            SensorDataArchiveCodec.toEpochMicros(rs.getTimestamp(2).toLocalDateTime()),
+                            rs.getDouble(3)
+                    ));
+                    if (merge.dbRows == 0) return 0;
+                    merge.finish();
+                    archived = merge.dbRows;
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                sensorDataJdbcRepository.deleteSensorRange(sensorId, from, to);
+                return archived;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deleteQuietly(tmp);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * 센서 하루치 아카이브 (파일이 없으면 null, 블록은 읽을 때 복원)
+     */
+    SensorDataArchiveCodec.DayFile readDay(Long sensorId, LocalDate day) {
+        Path file = fileOf(sensorId, day);
+        if (!Files.exists(file)) return null;
+        try {
+            return openDay(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * [from, to] 에 걸친 일자 중 아카이브 파일이 있는 날이 있는지
+     */
+    public boolean hasArchived(Long sensorId, LocalDateTime from, LocalDateTime to) {
+        for (LocalDate day = from.toLocalDate(); !day.isAfter(to.toLocalDate()); day = day.plusDays(1)) {
+            if (Files.exists(fileOf(sensorId, day))) return true;
+        }
+        return false;
+    }
+
+    private Path fileOf(Long sensorId, LocalDate day) {
+        return epochDir.resolve(String.valueOf(sensorId)).resolve(day.format(FILE_DATE) + FILE_SUFFIX);
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+            log.info("Stale sensor archive removed: {}", dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SensorDataArchiveCodec.DayFile openDay(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SensorDataArchiveCodec.DayFile(buffer);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Sensor archive temp file not deleted: {}", file, e);
+        }
+    }
+
+    /**
+     * 기존 파일 행과 DB 행을 (시각, id) 순서로 병합해 기록 (같은 id 는 파일 쪽 한 번만)
+     */
+    private static final class DayMerge {
+
+        private final SensorDataArchiveCodec.Writer writer;
+        private final SensorDataArchiveCodec.Cursor existing;
+        private boolean hasExisting;
+        private int dbRows;
+
+        DayMerge(SensorDataArchiveCodec.Writer writer, SensorDataArchiveCodec.Cursor existing) {
+            this.writer = writer;
+            this.existing = existing;
+            this.hasExisting = existing != null && existing.next();
+        }
+
+        void add(long id, long epochMicros, double value) {
+            dbRows++;
+            try {
+                while (hasExisting && (existing.epochMicros() < epochMicros
+                        || (existing.epochMicros() == epochMicros && existing.id() <= id))) {
+                    boolean duplicate = existing.id() == id && existing.epochMicros() == epochMicros;
+                    writeExisting();
+                    if (duplicate) return;
+                }
+                writer.add(id, epochMicros, value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            while (hasExisting) writeExisting();
+            writer.finish();
+        }
+
+        private void writeExisting() throws IOException {
+            writer.add(existing.id(), existing.epochMicros(), existing.value());
+            hasExisting = existing.next();
+        }
+    }
+}
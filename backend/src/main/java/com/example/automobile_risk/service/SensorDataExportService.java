@@ -0,0 +1,178 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Sensor;
+import com.example.automobile_risk.exception.EquipmentNotFoundException;
+import com.example.automobile_risk.exception.SensorNotFoundException;
+import com.example.automobile_risk.repository.EquipmentRepository;
+import com.example.automobile_risk.repository.SensorRepository;
+import com.example.automobile_risk.service.dto.SensorDataExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 센서 측정값 대량 내보내기 (NDJSON / CSV)
+ *
+ * - 엔티티를 만들지 않고 커서에서 읽은 행을 바로 출력 스트림에 기록 → 기간 길이와 무관하게 메모리 일정
+ * - SensorDataPeriodReader 로 읽음 (아카이브 구간 포함, DB 는 센서마다 fetchSize 행씩 keyset 페이지)
+ * - 설비는 센서별 커서를 k-way 병합 → DB 에서 설비 전체를 measured_at 으로 정렬하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class SensorDataExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    private static final String CSV_HEADER = "sensor_data_id,sensor_id,sensor_type,measured_at,value";
+
+    private final EquipmentRepository equipmentRepository;
+    private final SensorRepository sensorRepository;
+    private final SensorDataPeriodReader sensorDataPeriodReader;
+    private final SensorCatalog sensorCatalog;
+
+    @Value("${sensor-data.export.fetch-size:5000}")
+    private int fetchSize;
+
+    /**
+     * 요청 검증 (응답 헤더를 쓰기 전에 호출)
+     */
+    public void validate(Long sensorId, Long equipmentId, LocalDateTime from, LocalDateTime to, String format) {
+        if ((sensorId == null) == (equipmentId == null)) {
+            throw new IllegalArgumentException("sensorId 와 equipmentId 중 하나만 지정해야 합니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 이후일 수 없습니다.");
+        }
+        if (!FORMAT_NDJSON.equals(format) && !FORMAT_CSV.equals(format)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+        if (sensorId != null && !sensorCatalog.contains(sensorId)) {
+            throw new SensorNotFoundException(sensorId);
+        }
+        if (equipmentId != null && !equipmentRepository.existsById(equipmentId)) {
+            throw new EquipmentNotFoundException(equipmentId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long export(
+            Long sensorId,
+            Long equipmentId,
+            LocalDateTime from,
+            LocalDateTime to,
+            String format,
+            OutputStream out
+    ) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        boolean csv = FORMAT_CSV.equals(format);
+        long[] written = {0};
+
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        Consumer<SensorDataExportRow> sink = row -> {
+            try {
+                if (csv) {
+                    writeCsv(writer, row);
+                } else {
+                    writeNdjson(writer, row);
+                }
+                written[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        try {
+            if (sensorId != null) {
+                Sensor sensor = sensorRepository.findById(sensorId)
+                        .orElseThrow(() -> new SensorNotFoundException(sensorId));
+                sensorDataPeriodReader.open(sensor, from, to, fetchSize).forEachRemaining(sink);
+            } else {
+                List<Sensor> sensors = sensorRepository.findByEquipmentId(equipmentId);
+                sensorDataPeriodReader.open(sensors, from, to, from, 0L, fetchSize).forEachRemaining(sink);
+            }
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등
+            throw e.getCause();
+        }
+
+        writer.flush();
+        return written[0];
+    }
+
+    private static void writeNdjson(Writer w, SensorDataExportRow row) throws IOException {
+        w.write("{\"sensorDataId\":");
+        w.write(Long.toString(row.sensorDataId()));
+        w.write(",\"sensorId\":");
+        w.write(Long.toString(row.sensorId()));
+        w.write(",\"sensorType\":");
+        writeJsonString(w, row.sensorType());
+        w.write(",\"measuredAt\":\"");
+        w.write(row.measuredAt().toString());
+        w.write("\",\"value\":");
+        w.write(Double.toString(row.value()));
+        w.write("}\n");
+    }
+
+    private static void writeCsv(Writer w, SensorDataExportRow row) throws IOException {
+        w.write(Long.toString(row.sensorDataId()));
+        w.write(',');
+        w.write(Long.toString(row.sensorId()));
+        w.write(',');
+        writeCsvField(w, row.sensorType());
+        w.write(',');
+        w.write(row.measuredAt().toString());
+        w.write(',');
+        w.write(Double.toString(row.value()));
+        w.write('\n');
+    }
+
+    private static void writeJsonString(Writer w, String s) throws IOException {
+        if (s == null) {
+            w.write("null");
+            return;
+        }
+        w.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> w.write("\\\"");
+                case '\\' -> w.write("\\\\");
+                case '\n' -> w.write("\\n");
+                case '\r' -> w.write("\\r");
+                case '\t' -> w.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        w.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        w.write(c);
+                    }
+                }
+            }
+        }
+        w.write('"');
+    }
+
+    private static void writeCsvField(Writer w, String s) throws IOException {
+        if (s == null) return;
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            w.write(s);
+            return;
+        }
+        w.write('"');
+        w.write(s.replace("\"", "\"\""));
+        w.write('"');
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.automobile_risk.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * sensor_data 일 단위 파티셔닝 관리 (PostgreSQL range partition on measured_at)
+ *
+ * - 기동 시: Hibernate 가 만든 일반 테이블이 비어 있으면 파티션 테이블로 교체
+ * - 매일: 앞으로 precreateDays 일치 파티션 생성, retentionDays 보다 오래된 파티션 DROP
+ * - 범위 밖 측정값(과거 backfill 등)은 default 파티션에 들어가므로,
+ *   매일 default 에 있는 보존 기간 내 날짜마다 일 파티션을 만들어 행을 옮기고 보존 기간 지난 행은 삭제
+ * - 파티션마다 (sensor_id, measured_at) 인덱스 (부모 파티션 인덱스에서 자동 생성)
+ * - 기간 조회(measuredAt between :from and :to)는 파티션 키 조건이므로 해당 일자 파티션만 스캔
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SensorDataPartitionService {
+
+    private static final String TABLE = "sensor_data";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${sensor-data.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sensor-data.partition.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${sensor-data.partition.precreate-days:7}")
+    private int precreateDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!enabled) return;
+        try {
+            if (!isPartitioned()) {
+                convertToPartitionedTable();
+            }
+            maintainPartitions();
+        } catch (Exception e) {
+            log.warn("SensorData partition init skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션 생성 + 보존 기간 지난 파티션 삭제 (매일 00:10)
+     */
+    @Scheduled(cron = "${sensor-data.partition.maintenance-cron:0 10 0 * * *}")
+    public void maintainPartitions() {
+        if (!enabled || !isPartitioned()) return;
+
+        LocalDate today = LocalDate.now();
+        LocalDate cutoff = today.minusDays(retentionDays);
+        for (int i = -1; i <= precreateDays; i++) {
+            createDailyPartition(today.plusDays(i));
+        }
+
+        // default 파티션에 쌓인 backfill 행을 일 파티션으로 옮김
+        for (LocalDate day : daysInDefaultPartition(cutoff)) {
+            createDailyPartition(day);
+        }
+
+        dropExpiredPartitions(cutoff);
+        purgeExpiredDefaultRows(cutoff);
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject("""
+                select count(*) from pg_partitioned_table pt
+                join pg_class c on c.oid = pt.partrelid
+                where c.relname = ?
+                """, Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    private void convertToPartitionedTable() {
+        Boolean hasRows = jdbcTemplate.queryForObject(
+                "select exists (select 1 from " + TABLE + ")", Boolean.class);
+        if (Boolean.TRUE.equals(hasRows)) {
+            log.warn("sensor_data has rows and is not partitioned. skip conversion (migrate manually).");
+            return;
+        }
+
+        jdbcTemplate.execute("drop table " + TABLE);
+        jdbcTemplate.execute("""
+                create table sensor_data (
+                    sensor_data_id bigint not null,
+                    sensor_id bigint references sensor (sensor_id),
+                    measured_at timestamp(6) not null,
+                    value float(53),
+                    created_date timestamp(6),
+                    last_modified_date timestamp(6),
+                    primary key (sensor_data_id, measured_at)
+                ) partition by range (measured_at)
+                """);
+        jdbcTemplate.execute(
+                "create index idx_sensor_data_sensor_measured_at on sensor_data (sensor_id, measured_at)");
+        // 범위 밖 측정값(과거 backfill 등)은 default 파티션으로
+        jdbcTemplate.execute("create table " + DEFAULT_PARTITION + " partition of " + TABLE + " default");
+        log.info("sensor_data converted to daily range-partitioned table");
+    }
+
+    /**
+     * 일 파티션 생성 (이미 있으면 무시)
+     * - default 파티션에 같은 날짜 행이 있으면 바로 partition of 로 만들 수 없으므로
+     *   독립 테이블로 만든 뒤 default 에서 그 날짜 행을 옮기고 attach (한 트랜잭션)
+     */
+    private void createDailyPartition(LocalDate day) {
+        String name = PARTITION_PREFIX + day.format(SUFFIX);
+        if (tableExists(name)) return;
+
+        Date from = Date.valueOf(day);
+        Date to = Date.valueOf(day.plusDays(1));
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Boolean inDefault = jdbcTemplate.queryForObject(
+                        "select exists (select 1 from " + DEFAULT_PARTITION + " where measured_at >= ? and measured_at < ?)",
+                        Boolean.class, from, to);
+
+                if (!Boolean.TRUE.equals(inDefault)) {
+                    jdbcTemplate.execute("create table " + name
+                            + " partition of " + TABLE
+                            + " for values from ('" + day + "') to ('" + day.plusDays(1) + "')");
+                    return;
+                }
+
+                jdbcTemplate.execute("create table " + name + " (like " + TABLE + " including defaults)");
+                int moved = jdbcTemplate.update("""
+                        with moved as (
+                            delete from %s where measured_at >= ? and measured_at < ? returning *
+                        )
+                        insert into %s select * from moved
+                        """.formatted(DEFAULT_PARTITION, name), from, to);
+                jdbcTemplate.execute("alter table " + TABLE + " attach partition " + name
+                        + " for values from ('" + day + "') to ('" + day.plusDays(1) + "')");
+                log.info("SensorData partition created from default: {}, moved={}", name, moved);
+            });
+        } catch (Exception e) {
+            log.warn("SensorData partition create failed: {}, msg={}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * default 파티션에 행이 있는 날짜 (보존 기간 내)
+     */
+    private List<LocalDate> daysInDefaultPartition(LocalDate cutoff) {
+        if (!tableExists(DEFAULT_PARTITION)) return List.of();
+        return jdbcTemplate.queryForList(
+                "select distinct cast(measured_at as date) from " + DEFAULT_PARTITION + " where measured_at >= ?",
+                Date.class, Date.valueOf(cutoff)
+        ).stream().map(Date::toLocalDate).toList();
+    }
+
+    /**
+     * default 파티션의 보존 기간 지난 행 삭제 (일 파티션 DROP 과 같은 기준)
+     */
+    private void purgeExpiredDefaultRows(LocalDate cutoff) {
+        if (!tableExists(DEFAULT_PARTITION)) return;
+        int deleted = jdbcTemplate.update(
+                "delete from " + DEFAULT_PARTITION + " where measured_at < ?", Date.valueOf(cutoff));
+        if (deleted > 0) {
+            log.info("SensorData default partition purged: rows={}, before={}", deleted, cutoff);
+        }
+    }
+
+    private boolean tableExists(String name) {
+        Boolean exists = jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, name);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private void dropExpiredPartitions(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                select c.relname from pg_inherits i
+                join pg_class c on c.oid = i.inhrelid
+                join pg_class p on p.oid = i.inhparent
+                where p.relname = ?
+                """, String.class, TABLE);
+
+        for (String name : partitions) {
+            if (!name.startsWith(PARTITION_PREFIX)) continue;
+            LocalDate day;
+            try {
+                day = LocalDate.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            if (day.isBefore(cutoff)) {
+                jdbcTemplate.execute("drop table if exists " + name);
+                log.info("SensorData partition dropped: {}", name);
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Sensor;
+import com.example.automobile_risk.repository.SensorDataJdbcRepository;
+import com.example.automobile_risk.service.SensorDataArchiveCodec.DayFile;
+import com.example.automobile_risk.service.dto.SensorDataExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 기간 측정값 읽기 (아카이브 파일 + DB)
+ *
+ * - 기간 조회 경로(목록 / keyset 페이지 / 내보내기 / 원본 구간 집계)는 모두 이 커서로 읽는다
+ *   → 아카이브로 옮겨진 구간도 DB 에 있을 때와 같은 결과
+ * - 센서 하나를 (measured_at, sensor_data_id) 순서로 읽음: DB 는 keyset 페이지, 아카이브는 일자 파일에서 범위에 걸친 블록만 하나씩 복원
+ * - 이관 도중 중단되어 같은 id 가 양쪽에 있으면 아카이브 쪽만 사용
+ * - 여러 센서(설비)는 센서별 커서를 k-way 병합 → 설비 전체 정렬 / 전체 적재 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class SensorDataPeriodReader {
+
+    public static final Comparator<SensorDataExportRow> ORDER = Comparator
+            .comparing(SensorDataExportRow::measuredAt)
+            .thenComparingLong(SensorDataExportRow::sensorDataId);
+
+    private final SensorDataJdbcRepository sensorDataJdbcRepository;
+    private final SensorDataArchiveService sensorDataArchiveService;
+
+    /**
+     * 센서 [from, to] 측정값 커서 (처음부터)
+     *
+     * @param pageSize DB 에서 한 번에 읽는 행 수
+     */
+    public Iterator<SensorDataExportRow> open(Sensor sensor, LocalDateTime from, LocalDateTime to, int pageSize) {
+        return open(sensor, from, to, from, 0L, pageSize);
+    }
+
+    /**
+     * 센서 [from, to] 측정값 중 (afterMeasuredAt, afterId) 이후 커서
+     */
+    public Iterator<SensorDataExportRow> open(Sensor sensor, LocalDateTime from, LocalDateTime to,
+                                              LocalDateTime afterMeasuredAt, long afterId, int pageSize) {
+        return new SensorCursor(sensor, from, to, afterMeasuredAt, afterId, pageSize);
+    }
+
+    /**
+     * 여러 센서 [from, to] 측정값 중 (afterMeasuredAt, afterId) 이후를 하나의 순서로 병합한 커서
+     *
+     * @param pageSize 센서마다 DB 에서 한 번에 읽는 행 수
+     */
+    public Iterator<SensorDataExportRow> open(List<Sensor> sensors, LocalDateTime from, LocalDateTime to,
+                                              LocalDateTime afterMeasuredAt, long afterId, int pageSize) {
+        List<Iterator<SensorDataExportRow>> cursors = new ArrayList<>(sensors.size());
+        for (Sensor sensor : sensors) {
+            cursors.add(open(sensor, from, to, afterMeasuredAt, afterId, pageSize));
+        }
+        return cursors.size() == 1 ? cursors.get(0) : new MergeCursor(cursors);
+    }
+
+    /**
+     * 커서에서 최대 limit 개
+     */
+    public static List<SensorDataExportRow> take(Iterator<SensorDataExportRow> cursor, int limit) {
+        List<SensorDataExportRow> rows = new ArrayList<>(Math.min(limit, 1024));
+        while (rows.size() < limit && cursor.hasNext()) {
+            rows.add(cursor.next());
+        }
+        return rows;
+    }
+
+    /**
+     * 정렬된 커서들의 k-way 병합 (커서마다 선두 1개만 보관)
+     */
+    private static final class MergeCursor implements Iterator<SensorDataExportRow> {
+
+        private final PriorityQueue<Head> heap;
+
+        MergeCursor(List<Iterator<SensorDataExportRow>> cursors) {
+            this.heap = new PriorityQueue<>(Math.max(1, cursors.size()), (a, b) -> ORDER.compare(a.row(), b.row()));
+            for (Iterator<SensorDataExportRow> cursor : cursors) {
+                if (cursor.hasNext()) heap.add(new Head(cursor.next(), cursor));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public SensorDataExportRow next() {
+            Head head = heap.poll();
+            if (head == null) throw new NoSuchElementException();
+            if (head.cursor().hasNext()) heap.add(new Head(head.cursor().next(), head.cursor()));
+            return head.row();
+        }
+
+        private record Head(SensorDataExportRow row, Iterator<SensorDataExportRow> cursor) {
+        }
+    }
+
+    /**
+     * 센서 하나의 아카이브 + DB 2-way 병합 커서
+     */
+    private final class SensorCursor implements Iterator<SensorDataExportRow> {
+
+        private final Sensor sensor;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final int pageSize;
+
+        // DB keyset 페이지
+        private List<SensorDataExportRow> page = List.of();
+        private int pagePos;
+        private boolean liveExhausted;
+        private LocalDateTime liveAfterMeasuredAt;
+        private long liveAfterId;
+
+        // 아카이브 일자 파일 (한 번에 블록 하나만 복원)
+        private final long fromMicros;
+        private final long toMicros;
+        private final long afterMicros;
+        private final long afterId;
+        private final LocalDate lastDay;
+        private LocalDate day;
+        private SensorDataArchiveCodec.Cursor dayCursor;
+        private SensorDataExportRow archivedHead;
+
+        SensorCursor(Sensor sensor, LocalDateTime from, LocalDateTime to,
+                     LocalDateTime afterMeasuredAt, long afterId, int pageSize) {
+            this.sensor = sensor;
+            this.from = from;
+            this.to = to;
+            this.pageSize = Math.max(pageSize, 1);
+            this.liveAfterMeasuredAt = afterMeasuredAt;
+            this.liveAfterId = afterId;
+            this.liveExhausted = from.isAfter(to);
+
+            this.fromMicros = SensorDataArchiveCodec.toEpochMicros(from);
+            this.toMicros = SensorDataArchiveCodec.toEpochMicros(to);
+            this.afterMicros = SensorDataArchiveCodec.toEpochMicros(afterMeasuredAt);
+            this.afterId = afterId;
+            this.day = (afterMeasuredAt.isAfter(from) ? afterMeasuredAt : from).toLocalDate();
+            this.lastDay = to.toLocalDate();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return liveHead() != null || archivedHead() != null;
+        }
+
+        @Override
+        public SensorDataExportRow next() {
+            SensorDataExportRow live = liveHead();
+            SensorDataExportRow archived = archivedHead();
+            if (live == null && archived == null) throw new NoSuchElementException();
+
+            if (archived == null || (live != null && ORDER.compare(live, archived) < 0)) {
+                pagePos++;
+                return live;
+            }
+            if (live != null && live.sensorDataId() == archived.sensorDataId()) {
+                pagePos++;
+            }
+            archivedHead = null;
+            return archived;
+        }
+
+        private SensorDataExportRow liveHead() {
+            if (pagePos < page.size()) return page.get(pagePos);
+            if (liveExhausted) return null;
+
+            if (!page.isEmpty()) {
+                SensorDataExportRow last = page.get(page.size() - 1);
+                liveAfterMeasuredAt = last.measuredAt();
+                liveAfterId = last.sensorDataId();
+            }
+            page = sensorDataJdbcRepository.findSensorPage(
+                    sensor.getId(), from, to, liveAfterMeasuredAt, liveAfterId, pageSize);
+            pagePos = 0;
+            liveExhausted = page.size() < pageSize;
+            return page.isEmpty() ? null : page.get(0);
+        }
+
+        private SensorDataExportRow archivedHead() {
+            if (archivedHead != null) return archivedHead;
+
+            while (true) {
+                if (dayCursor == null || !dayCursor.next()) {
+                    if (day.isAfter(lastDay)) return null;
+                    DayFile file = sensorDataArchiveService.readDay(sensor.getId(), day);
+                    day = day.plusDays(1);
+                    // 범위 / after 이전 블록은 색인으로 건너뜀
+                    dayCursor = file != null ? file.cursor(Math.max(fromMicros, afterMicros), toMicros) : null;
+                    continue;
+                }
+
+                long t = dayCursor.epochMicros();
+                long id = dayCursor.id();
+                if (t == afterMicros && id <= afterId) continue;
+
+                archivedHead = new SensorDataExportRow(
+                        id, sensor.getId(), sensor.getSensorType(),
+                        SensorDataArchiveCodec.fromEpochMicros(t), dayCursor.value());
+                return archivedHead;
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Sensor;
+import com.example.automobile_risk.entity.SensorDataRollup;
+import com.example.automobile_risk.exception.SensorNotFoundException;
+import com.example.automobile_risk.repository.SensorDataRepository;
+import com.example.automobile_risk.repository.SensorDataRollupJdbcRepository;
+import com.example.automobile_risk.repository.SensorDataRollupJdbcRepository.RollupRow;
+import com.example.automobile_risk.repository.SensorDataRollupRepository;
+import com.example.automobile_risk.repository.SensorRepository;
+import com.example.automobile_risk.service.dto.SensorDataBucketResponse;
+import com.example.automobile_risk.service.dto.SensorDataExportRow;
+import com.example.automobile_risk.service.dto.SensorSample;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 센서 시계열 다운샘플링
+ *
+ * - 수집 시: 배치 단위로 (센서, 1분/1시간 구간) 집계 후 sensor_data_rollups 에 upsert
+ * - 조회 시: 구간 폭이 분/시간 배수이면 rollup 에서, 아니면 원본 GROUP BY 로 집계
+ *   (기간에 아카이브 파일이 있으면 SensorDataPeriodReader 로 아카이브 + DB 를 읽어 집계)
+ * - 결과 구간 수는 항상 maxPoints 이하 (구간 폭 자동 확대)
+ * - lttb=true 이면 1분(또는 1시간) 구간을 LTTB 로 maxPoints 개까지 줄여 차트 형태를 보존
+ * - 매일 보존 기간이 지난 rollup 삭제 (기본 1분 90 일 = 원본 파티션 보존 기간, 1시간 365 일)
+ *   → 1분 보존 기간보다 오래된 구간은 1시간 배수 폭으로만 조회된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SensorDataRollupService {
+
+    public static final int MINUTE = 60;
+    public static final int HOUR = 3600;
+
+    // LTTB 입력으로 1분 구간을 쓸 수 있는 최대 구간 수 (초과 시 1시간 구간 사용)
+    private static final long LTTB_SOURCE_LIMIT = 100_000;
+
+    // 아카이브 구간 원본 집계 시 DB 에서 한 번에 읽는 행 수
+    private static final int RAW_PAGE_SIZE = 5000;
+
+    private final SensorDataRollupJdbcRepository sensorDataRollupJdbcRepository;
+    private final SensorDataRollupRepository sensorDataRollupRepository;
+    private final SensorDataRepository sensorDataRepository;
+    private final SensorCatalog sensorCatalog;
+    private final SensorRepository sensorRepository;
+    private final SensorDataArchiveService sensorDataArchiveService;
+    private final SensorDataPeriodReader sensorDataPeriodReader;
+
+    @Value("${sensor-data.rollup.minute-retention-days:90}")
+    private int minuteRetentionDays;
+
+    @Value("${sensor-data.rollup.hour-retention-days:365}")
+    private int hourRetentionDays;
+
+    /**
+     * 수집된 측정값을 1분 / 1시간 rollup 에 누적 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void accumulate(List<SensorSample> samples) {
+        if (samples.isEmpty()) return;
+
+        Map<RollupKey, Accumulator> buckets = new TreeMap<>();
+        for (SensorSample sample : samples) {
+            add(buckets, sample, MINUTE);
+            add(buckets, sample, HOUR);
+        }
+
+        List<RollupRow> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, acc) -> rows.add(new RollupRow(
+                key.sensorId(), key.bucketSeconds(), key.bucketStart(),
+                acc.min, acc.max, acc.sum, acc.count, acc.last, acc.lastMeasuredAt)));
+        sensorDataRollupJdbcRepository.upsert(rows);
+    }
+
+    /**
+     * 보존 기간 지난 1분 / 1시간 rollup 삭제 (매일 00:20, 파티션 정리 이후)
+     */
+    @Scheduled(cron = "${sensor-data.rollup.retention-cron:0 20 0 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDate today = LocalDate.now();
+        int minutes = sensorDataRollupJdbcRepository.deleteBefore(
+                MINUTE, today.minusDays(minuteRetentionDays).atStartOfDay());
+        int hours = sensorDataRollupJdbcRepository.deleteBefore(
+                HOUR, today.minusDays(hourRetentionDays).atStartOfDay());
+        if (minutes > 0 || hours > 0) {
+            log.info("SensorData rollups purged: minute={}, hour={}", minutes, hours);
+        }
+    }
+
+    /**
+     * 구간 집계 조회
+     *
+     * @param bucketSeconds 요청 구간 폭(초), null 이면 maxPoints 에 맞춰 자동 결정
+     */
+    public List<SensorDataBucketResponse> getSeries(
+            Long sensorId,
+            LocalDateTime from,
+            LocalDateTime to,
+            Integer bucketSeconds,
+            int maxPoints,
+            boolean lttb
+    ) {
+        if (!sensorCatalog.contains(sensorId)) {
+            throw new SensorNotFoundException(sensorId);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 이전이어야 합니다.");
+        }
+        if (maxPoints < 3) {
+            throw new IllegalArgumentException("maxPoints 는 3 이상이어야 합니다.");
+        }
+
+        long rangeSeconds = Duration.between(from, to).getSeconds();
+
+        if (lttb) {
+            int sourceWidth = rangeSeconds / MINUTE <= LTTB_SOURCE_LIMIT ? MINUTE : HOUR;
+            return downsampleLttb(aggregate(sensorId, from, to, sourceWidth), maxPoints);
+        }
+
+        long minWidth = (rangeSeconds + maxPoints - 1) / maxPoints;
+        long width = Math.max(bucketSeconds != null ? bucketSeconds : 1, minWidth);
+        // rollup 을 쓸 수 있도록 분 / 시간 배수로 올림
+        if (width > HOUR) {
+            width = ((width + HOUR - 1) / HOUR) * HOUR;
+        } else if (width > MINUTE) {
+            width = ((width + MINUTE - 1) / MINUTE) * MINUTE;
+        }
+        return aggregate(sensorId, from, to, (int) width);
+    }
+
+    private List<SensorDataBucketResponse> aggregate(Long sensorId, LocalDateTime from, LocalDateTime to, int width) {
+        if (width % HOUR == 0) {
+            return rebucket(sensorDataRollupRepository.findBySensorAndPeriod(sensorId, HOUR, from, to), width);
+        }
+        if (width % MINUTE == 0) {
+            return rebucket(sensorDataRollupRepository.findBySensorAndPeriod(sensorId, MINUTE, from, to), width);
+        }
+
+        if (sensorDataArchiveService.hasArchived(sensorId, from, to)) {
+            return aggregateArchived(sensorId, from, to, width);
+        }
+
+        List<SensorDataBucketResponse> result = new ArrayList<>();
+        for (Object[] row : sensorDataRepository.aggregateBySensorAndPeriod(sensorId, from, to, width)) {
+            long bucket = ((Number) row[0]).longValue();
+            long count = ((Number) row[4]).longValue();
+            double sum = ((Number) row[3]).doubleValue();
+            result.add(SensorDataBucketResponse.builder()
+                    .bucketStart(LocalDateTime.ofEpochSecond(bucket * width, 0, ZoneOffset.UTC))
+                    .min(((Number) row[1]).doubleValue())
+                    .max(((Number) row[2]).doubleValue())
+                    .avg(count > 0 ? sum / count : null)
+                    .count(count)
+                    .last(((Number) row[5]).doubleValue())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 아카이브가 걸친 기간의 원본 집계 (시각순으로 읽으며 구간 단위로 누적)
+     */
+    private List<SensorDataBucketResponse> aggregateArchived(Long sensorId, LocalDateTime from, LocalDateTime to, int width) {
+        Sensor sensor = sensorRepository.findById(sensorId)
+                .orElseThrow(() -> new SensorNotFoundException(sensorId));
+
+        List<SensorDataBucketResponse> result = new ArrayList<>();
+        Accumulator acc = null;
+        LocalDateTime accStart = null;
+
+        Iterator<SensorDataExportRow> cursor = sensorDataPeriodReader.open(sensor, from, to, RAW_PAGE_SIZE);
+        while (cursor.hasNext()) {
+            SensorDataExportRow row = cursor.next();
+            LocalDateTime start = bucketStart(row.measuredAt(), width);
+            if (acc == null || !start.equals(accStart)) {
+                if (acc != null) result.add(acc.toResponse(accStart));
+                acc = new Accumulator();
+                accStart = start;
+            }
+            acc.add(row.value(), row.measuredAt());
+        }
+        if (acc != null) result.add(acc.toResponse(accStart));
+        return result;
+    }
+
+    /**
+     * rollup 행(시간순)을 요청 폭으로 다시 묶음
+     */
+    private List<SensorDataBucketResponse> rebucket(List<SensorDataRollup> rollups, int width) {
+        List<SensorDataBucketResponse> result = new ArrayList<>();
+        Accumulator acc = null;
+        LocalDateTime accStart = null;
+
+        for (SensorDataRollup r : rollups) {
+            LocalDateTime start = bucketStart(r.getBucketStart(), width);
+            if (acc == null || !start.equals(accStart)) {
+                if (acc != null) result.add(acc.toResponse(accStart));
+                acc = new Accumulator();
+                accStart = start;
+            }
+            acc.merge(r);
+        }
+        if (acc != null) result.add(acc.toResponse(accStart));
+        return result;
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets (x = 구간 시작, y = 평균)
+     */
+    private List<SensorDataBucketResponse> downsampleLttb(List<SensorDataBucketResponse> data, int threshold) {
+        int n = data.size();
+        if (threshold >= n || threshold < 3) return data;
+
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = data.get(i).getBucketStart().toEpochSecond(ZoneOffset.UTC);
+            ys[i] = data.get(i).getAvg() != null ? data.get(i).getAvg() : 0.0;
+        }
+
+        List<SensorDataBucketResponse> sampled = new ArrayList<>(threshold);
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = 0;
+        sampled.add(data.get(a));
+
+        for (int i = 0; i < threshold - 2; i++) {
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, n);
+            double avgX = 0, avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += xs[j];
+                avgY += ys[j];
+            }
+            int avgLen = Math.max(avgEnd - avgStart, 1);
+            avgX /= avgLen;
+            avgY /= avgLen;
+
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((xs[a] - avgX) * (ys[j] - ys[a]) - (xs[a] - xs[j]) * (avgY - ys[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            sampled.add(data.get(next));
+            a = next;
+        }
+
+        sampled.add(data.get(n - 1));
+        return sampled;
+    }
+
+    private static void add(Map<RollupKey, Accumulator> buckets, SensorSample sample, int width) {
+        RollupKey key = new RollupKey(sample.sensorId(), width, bucketStart(sample.measuredAt(), width));
+        buckets.computeIfAbsent(key, k -> new Accumulator()).add(sample.value(), sample.measuredAt());
+    }
+
+    private static LocalDateTime bucketStart(LocalDateTime t, int width) {
+        long epoch = t.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epoch, width) * width, 0, ZoneOffset.UTC);
+    }
+
+    private record RollupKey(long sensorId, int bucketSeconds, LocalDateTime bucketStart)
+            implements Comparable<RollupKey> {
+
+        @Override
+        public int compareTo(RollupKey o) {
+            int c = Long.compare(sensorId, o.sensorId);
+            if (c != 0) return c;
+            c = Integer.compare(bucketSeconds, o.bucketSeconds);
+            if (c != 0) return c;
+            return bucketStart.compareTo(o.bucketStart);
+        }
+    }
+
+    private static final class Accumulator {
+
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private double sum;
+        private long count;
+        private double last;
+        private LocalDateTime lastMeasuredAt;
+
+        void add(double value, LocalDateTime measuredAt) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+            count++;
+            if (lastMeasuredAt == null || !measuredAt.isBefore(lastMeasuredAt)) {
+                last = value;
+                lastMeasuredAt = measuredAt;
+            }
+        }
+
+        void merge(SensorDataRollup r) {
+            min = Math.min(min, r.getMinValue());
+            max = Math.max(max, r.getMaxValue());
+            sum += r.getSumValue();
+            count += r.getSampleCount();
+            if (lastMeasuredAt == null || !r.getLastMeasuredAt().isBefore(lastMeasuredAt)) {
+                last = r.getLastValue();
+                lastMeasuredAt = r.getLastMeasuredAt();
+            }
+        }
+
+        SensorDataBucketResponse toResponse(LocalDateTime bucketStart) {
+            return SensorDataBucketResponse.builder()
+                    .bucketStart(bucketStart)
+                    .min(min)
+                    .max(max)
+                    .avg(count > 0 ? sum / count : null)
+                    .count(count)
+                    .last(last)
+                    .build();
+        }
+    }
+}
@@ -3,20 +3,38 @@ package com.example.automobile_risk.service;
 import com.example.automobile_risk.controller.dto.SensorDataCreateForm;
 import com.example.automobile_risk.entity.Sensor;
 import com.example.automobile_risk.entity.SensorData;
+import com.example.automobile_risk.exception.BulkIngestException;
 import com.example.automobile_risk.exception.EquipmentNotFoundException;
 import com.example.automobile_risk.exception.SensorDataNotFoundException;
 import com.example.automobile_risk.exception.SensorNotFoundException;
 import com.example.automobile_risk.repository.EquipmentRepository;
+import com.example.automobile_risk.repository.SensorDataJdbcRepository;
 import com.example.automobile_risk.repository.SensorDataRepository;
 import com.example.automobile_risk.repository.SensorRepository;
+import com.example.automobile_risk.service.dto.SensorAnomalyAlert;
+import com.example.automobile_risk.service.dto.SensorDataCursorPage;
 import com.example.automobile_risk.service.dto.SensorDataDetailResponse;
+import com.example.automobile_risk.service.dto.SensorDataExportRow;
 import com.example.automobile_risk.service.dto.SensorDataListResponse;
+import com.example.automobile_risk.service.dto.SensorSample;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -28,6 +46,19 @@ public class SensorDataService {
     private final SensorDataRepository sensorDataRepository;
     private final SensorRepository sensorRepository;
     private final EquipmentRepository equipmentRepository;
+    private final SensorDataJdbcRepository sensorDataJdbcRepository;
+    private final SensorCatalog sensorCatalog;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final SensorDataRollupService sensorDataRollupService;
+    private final SensorLiveBuffer sensorLiveBuffer;
+    private final SensorLiveSseService sensorLiveSseService;
+    private final SensorAnomalyDetector sensorAnomalyDetector;
+    private final SensorAnomalyService sensorAnomalyService;
+    private final SensorDataPeriodReader sensorDataPeriodReader;
+
+    // 대량 수집 시 한 번에 batch insert 하는 행 수
+    private static final int BULK_CHUNK_SIZE = 5000;
 
     /**
      *  1. 생성
@@ -46,10 +77,125 @@ public class SensorDataService {
         );
 
         SensorData savedSensorData = sensorDataRepository.save(sensorData);
+        afterIngest(List.of(new SensorSample(sensorId, form.getMeasuredAt(), form.getValue())));
 
         return savedSensorData.getId();
     }
 
+    /**
+     *  1-1. 대량 생성 (JSON 배열)
+     */
+    @Transactional
+    public int createBulk(List<SensorDataCreateForm> forms) {
+
+        List<SensorSample> samples = new ArrayList<>(forms.size());
+        for (SensorDataCreateForm form : forms) {
+            samples.add(toSample(form));
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < samples.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, samples.size());
+            inserted += sensorDataJdbcRepository.batchInsert(samples.subList(from, to));
+        }
+        afterIngest(samples);
+        return inserted;
+    }
+
+    /**
+     *  1-2. 대량 생성 (NDJSON 스트림)
+     *  - 한 줄에 {"sensorId":..,"measuredAt":..,"value":..} 하나
+     *  - BULK_CHUNK_SIZE 단위로 나누어 청크마다 커밋
+     *  - 중간에 실패하면 그때까지 커밋된 건수와 다시 보낼 시작 줄을 BulkIngestException 으로 알림
+     *    (같은 파일을 fromLine 부터 다시 보내면 이어서 적재)
+     *
+     *  @param fromLine 이 줄(1부터)부터 적재, 앞의 줄은 건너뜀
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int createBulkNdjson(InputStream body, long fromLine) {
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        List<SensorSample> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        int inserted = 0;
+        long lineNo = 0;
+        long committedThroughLine = Math.max(fromLine, 1) - 1;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo < fromLine || line.isBlank()) continue;
+                chunk.add(toSample(objectMapper.readValue(line, SensorDataCreateForm.class)));
+
+                if (chunk.size() >= BULK_CHUNK_SIZE) {
+                    List<SensorSample> batch = chunk;
+                    inserted += tx.execute(status -> insertChunk(batch));
+                    committedThroughLine = lineNo;
+                    chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<SensorSample> batch = chunk;
+                inserted += tx.execute(status -> insertChunk(batch));
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new BulkIngestException(inserted, committedThroughLine + 1, e);
+        }
+        return inserted;
+    }
+
+    private int insertChunk(List<SensorSample> batch) {
+        int inserted = sensorDataJdbcRepository.batchInsert(batch);
+        afterIngest(batch);
+        return inserted;
+    }
+
+    /**
+     *  수집 직후 처리 (같은 트랜잭션)
+     *  - 1분 / 1시간 rollup 누적
+     *  - 커밋 후 실시간 버퍼 반영 및 SSE 전송 예약 (전송은 SensorLiveSseService 스레드에서)
+     *  - 커밋 후 스트리밍 이상 감지, 경보 시 설비 상태 / 공정 이벤트 반영
+     */
+    private void afterIngest(List<SensorSample> samples) {
+        sensorDataRollupService.accumulate(samples);
+
+        Runnable publishLive = () -> {
+            sensorLiveBuffer.append(samples);
+            sensorLiveSseService.publish(samples);
+
+            List<SensorAnomalyAlert> alerts = sensorAnomalyDetector.observe(samples);
+            if (!alerts.isEmpty()) {
+                try {
+                    sensorAnomalyService.handle(alerts);
+                } catch (Exception e) {
+                    log.error("Sensor anomaly handling failed: alerts={}, msg={}", alerts.size(), e.getMessage(), e);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishLive.run();
+                }
+            });
+        } else {
+            publishLive.run();
+        }
+    }
+
+    private SensorSample toSample(SensorDataCreateForm form) {
+
+        if (form.getSensorId() == null || form.getMeasuredAt() == null || form.getValue() == null) {
+            throw new IllegalArgumentException("sensorId, measuredAt, value 는 필수입니다.");
+        }
+        if (!sensorCatalog.contains(form.getSensorId())) {
+            throw new SensorNotFoundException(form.getSensorId());
+        }
+        return new SensorSample(form.getSensorId(), form.getMeasuredAt(), form.getValue());
+    }
+
 //    /**
 //     *  2. 수정
 //     */
@@ -110,43 +256,90 @@ public class SensorDataService {
 //    }
 
     /**
-     *  센서별 + 기간 조회
+     *  센서별 + 기간 조회 (측정 시각순 최대 limit 개)
      */
     public List<SensorDataListResponse> getBySensorAndPeriod(
             Long sensorId,
             LocalDateTime from,
-            LocalDateTime to
+            LocalDateTime to,
+            int limit
     ) {
 
         // 센서 존재 검증 (의미적으로 좋음)
-        sensorRepository.findById(sensorId)
+        Sensor sensor = sensorRepository.findById(sensorId)
                 .orElseThrow(() -> new SensorNotFoundException(sensorId));
 
-        List<SensorData> list =
-                sensorDataRepository.findBySensorAndPeriod(sensorId, from, to);
-
-        return list.stream()
-                .map(SensorDataListResponse::from)
+        // 아카이브 + DB 를 측정 시각순으로 limit 개만 읽음
+        return SensorDataPeriodReader.take(sensorDataPeriodReader.open(sensor, from, to, limit), limit).stream()
+                .map(SensorDataService::toListResponse)
                 .toList();
     }
 
     /**
-     *  설비별 + 기간 조회
+     *  설비별 + 기간 조회 (측정 시각순 최대 limit 개)
+     *  - 센서별 커서(아카이브 + DB)를 k-way 병합 → 설비 전체 정렬 / 전체 적재 없음
      */
     public List<SensorDataListResponse> getByEquipmentAndPeriod(
             Long equipmentId,
             LocalDateTime from,
-            LocalDateTime to
+            LocalDateTime to,
+            int limit
+    ) {
+
+        equipmentRepository.findById(equipmentId)
+                .orElseThrow(() -> new EquipmentNotFoundException(equipmentId));
+
+        List<Sensor> sensors = sensorRepository.findByEquipmentId(equipmentId);
+        return SensorDataPeriodReader.take(sensorDataPeriodReader.open(sensors, from, to, from, 0L, limit), limit).stream()
+                .map(SensorDataService::toListResponse)
+                .toList();
+    }
+
+    /**
+     *  설비별 + 기간 keyset 페이지
+     *  - 센서별 커서를 cursor 이후부터 k-way 병합해 limit + 1 개만 읽음
+     */
+    public SensorDataCursorPage getByEquipmentPage(
+            Long equipmentId,
+            LocalDateTime from,
+            LocalDateTime to,
+            LocalDateTime cursorMeasuredAt,
+            Long cursorId,
+            int limit
     ) {
 
         equipmentRepository.findById(equipmentId)
                 .orElseThrow(() -> new EquipmentNotFoundException(equipmentId));
 
-        List<SensorData> list =
-                sensorDataRepository.findByEquipmentAndPeriod(equipmentId, from, to);
+        LocalDateTime afterMeasuredAt = cursorMeasuredAt != null ? cursorMeasuredAt : from;
+        long afterId = cursorMeasuredAt != null && cursorId != null ? cursorId : 0L;
+
+        List<Sensor> sensors = sensorRepository.findByEquipmentId(equipmentId);
+        List<SensorDataExportRow> merged = SensorDataPeriodReader.take(
+                sensorDataPeriodReader.open(sensors, from, to, afterMeasuredAt, afterId, limit + 1), limit + 1);
 
-        return list.stream()
-                .map(SensorDataListResponse::from)
+        boolean hasNext = merged.size() > limit;
+        List<SensorDataExportRow> pageRows = hasNext ? merged.subList(0, limit) : merged;
+        List<SensorDataListResponse> content = pageRows.stream()
+                .map(SensorDataService::toListResponse)
                 .toList();
+
+        SensorDataExportRow last = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+        return SensorDataCursorPage.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextMeasuredAt(hasNext ? last.measuredAt() : null)
+                .nextId(hasNext ? last.sensorDataId() : null)
+                .build();
+    }
+
+    private static SensorDataListResponse toListResponse(SensorDataExportRow row) {
+        return SensorDataListResponse.builder()
+                .sensorDataId(row.sensorDataId())
+                .value(row.value())
+                .measuredAt(row.measuredAt())
+                .sensorId(row.sensorId())
+                .sensorType(row.sensorType())
+                .build();
     }
 }
@@ -0,0 +1,146 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Sensor;
+import com.example.automobile_risk.repository.SensorRepository;
+import com.example.automobile_risk.service.dto.SensorLiveSample;
+import com.example.automobile_risk.service.dto.SensorSample;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 센서별 최근 측정값 링 버퍼
+ *
+ * - 수집 시 채워지고, 실시간 조회는 DB 를 거치지 않는다.
+ * - 센서마다 long[] (epoch millis) / double[] 두 배열만 사용 (박싱 없음)
+ * - 용량: sensor-data.live.capacity.{sensorType} → 없으면 sensor-data.live.capacity.default
+ * - 링에 있는 가장 최근 값보다 오래된 측정값(과거 구간 backfill, 순서가 뒤바뀐 수집)은 넣지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SensorLiveBuffer {
+
+    private final SensorRepository sensorRepository;
+    private final Environment environment;
+
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    @Value("${sensor-data.live.capacity.default:600}")
+    private int defaultCapacity;
+
+    /**
+     * 수집된 측정값 추가
+     */
+    public void append(List<SensorSample> samples) {
+        for (SensorSample sample : samples) {
+            ring(sample.sensorId()).add(toMillis(sample.measuredAt()), sample.value());
+        }
+    }
+
+    /**
+     * 최근 windowSeconds 이내 측정값 (오래된 순), 최대 limit 개
+     */
+    public List<SensorLiveSample> recent(Long sensorId, long windowSeconds, int limit) {
+        Ring ring = rings.get(sensorId);
+        if (ring == null) return Collections.emptyList();
+
+        long since = toMillis(LocalDateTime.now()) - windowSeconds * 1000;
+        return ring.since(sensorId, since, limit);
+    }
+
+    /**
+     * 센서 삭제 시 버퍼 제거
+     */
+    public void evict(Long sensorId) {
+        rings.remove(sensorId);
+    }
+
+    private Ring ring(long sensorId) {
+        Ring ring = rings.get(sensorId);
+        if (ring != null) return ring;
+        // 센서당 최초 1회만 센서 타입 조회, DB 조회는 맵 잠금 밖에서 (동시에 만들면 먼저 넣은 링 사용)
+        int capacity = capacityOf(sensorId);
+        return rings.computeIfAbsent(sensorId, id -> new Ring(capacity));
+    }
+
+    private int capacityOf(Long sensorId) {
+        String sensorType = sensorRepository.findById(sensorId)
+                .map(Sensor::getSensorType)
+                .orElse(null);
+        if (sensorType == null) return defaultCapacity;
+
+        Integer capacity = environment.getProperty(
+                "sensor-data.live.capacity." + sensorType.toLowerCase(), Integer.class);
+        return capacity != null && capacity > 0 ? capacity : defaultCapacity;
+    }
+
+    private static long toMillis(LocalDateTime t) {
+        return t.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 고정 크기 원형 버퍼 (가장 오래된 값부터 덮어씀, 시각순 유지)
+     */
+    private static final class Ring {
+
+        private final long[] timestamps;
+        private final double[] values;
+        private int next;
+        private int size;
+
+        Ring(int capacity) {
+            this.timestamps = new long[capacity];
+            this.values = new double[capacity];
+        }
+
+        synchronized void add(long timestamp, double value) {
+            // 최신 값보다 과거 시각이면 버림 → 과거 데이터가 최근 값을 덮어쓰지 않음
+            if (size > 0 && timestamp < timestamps[(next - 1 + timestamps.length) % timestamps.length]) return;
+
+            timestamps[next] = timestamp;
+            values[next] = value;
+            next = (next + 1) % timestamps.length;
+            if (size < timestamps.length) size++;
+        }
+
+        synchronized List<SensorLiveSample> since(Long sensorId, long sinceMillis, int limit) {
+            int capacity = timestamps.length;
+            int oldest = (next - size + capacity) % capacity;
+
+            // 뒤에서부터 구간 안의 값만 limit 개까지 고름 (중간에 구간 밖 값이 있어도 계속 확인)
+            int[] picked = new int[Math.min(size, Math.max(limit, 0))];
+            int count = 0;
+            for (int i = size - 1; i >= 0 && count < picked.length; i--) {
+                int idx = (oldest + i) % capacity;
+                if (timestamps[idx] >= sinceMillis) picked[count++] = idx;
+            }
+
+            List<SensorLiveSample> result = new ArrayList<>(count);
+            for (int i = count - 1; i >= 0; i--) {
+                int idx = picked[i];
+                result.add(SensorLiveSample.builder()
+                        .sensorId(sensorId)
+                        .measuredAt(fromMillis(timestamps[idx]))
+                        .value(values[idx])
+                        .build());
+            }
+            return result;
+        }
+    }
+}
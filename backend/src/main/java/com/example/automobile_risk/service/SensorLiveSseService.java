@@ -0,0 +1,154 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.service.dto.SensorLiveSample;
+import com.example.automobile_risk.service.dto.SensorSample;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 신규 센서 측정값 SSE 브로드캐스트
+ *
+ * - publish 는 수집 배치를 제한된 큐에 넣고 즉시 반환 (수집 스레드는 전송을 기다리지 않음)
+ * - 전송 스레드 하나가 큐에 쌓인 배치를 모두 꺼내 하나로 합친 뒤 구독자마다 한 번씩 전송
+ *   (sensorId 구독 시 해당 센서만)
+ * - 큐가 가득 차면 가장 오래된 배치를 버리고, 합친 배치가 maxEventSamples 를 넘으면 최근 값만 보낸다
+ *   → 느린 구독자가 있어도 수집 처리량과 메모리 사용량은 제한됨
+ */
+@Slf4j
+@Service
+public class SensorLiveSseService {
+
+    private static final Long ALL_SENSORS = -1L;
+
+    private final Map<SseEmitter, Long> emitters = new ConcurrentHashMap<>();
+
+    @Value("${sensor-data.live.sse.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${sensor-data.live.sse.max-event-samples:5000}")
+    private int maxEventSamples;
+
+    private BlockingQueue<List<SensorSample>> queue;
+    private Thread sender;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        running = true;
+        sender = new Thread(this::drain, "sensor-live-sse");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        sender.interrupt();
+    }
+
+    public SseEmitter subscribe(Long sensorId) {
+        SseEmitter emitter = new SseEmitter(0L);
+        emitters.put(emitter, sensorId != null ? sensorId : ALL_SENSORS);
+
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError((e) -> emitters.remove(emitter));
+
+        return emitter;
+    }
+
+    /**
+     * 수집 배치 전송 예약 (즉시 반환)
+     */
+    public void publish(List<SensorSample> samples) {
+        if (emitters.isEmpty() || samples.isEmpty()) return;
+
+        while (!queue.offer(samples)) {
+            List<SensorSample> oldest = queue.poll();
+            if (oldest != null) log.debug("Sensor live SSE queue full, dropped {} samples", oldest.size());
+        }
+    }
+
+    private void drain() {
+        List<List<SensorSample>> batches = new ArrayList<>();
+        while (running) {
+            try {
+                batches.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batches);
+
+            try {
+                send(coalesce(batches));
+            } catch (Exception e) {
+                log.warn("Sensor live SSE send failed: msg={}", e.getMessage());
+            }
+            batches.clear();
+        }
+    }
+
+    /**
+     * 꺼낸 배치를 하나로 합침 (최근 maxEventSamples 개까지)
+     */
+    private List<SensorSample> coalesce(List<List<SensorSample>> batches) {
+        int total = 0;
+        for (List<SensorSample> batch : batches) total += batch.size();
+
+        int skip = Math.max(0, total - Math.max(1, maxEventSamples));
+
+        List<SensorSample> merged = new ArrayList<>(total - skip);
+        for (List<SensorSample> batch : batches) {
+            if (skip >= batch.size()) {
+                skip -= batch.size();
+                continue;
+            }
+            merged.addAll(skip > 0 ? batch.subList(skip, batch.size()) : batch);
+            skip = 0;
+        }
+        return merged;
+    }
+
+    private void send(List<SensorSample> samples) {
+        if (emitters.isEmpty() || samples.isEmpty()) return;
+
+        List<SensorLiveSample> all = new ArrayList<>(samples.size());
+        Map<Long, List<SensorLiveSample>> bySensor = new HashMap<>();
+        for (SensorSample sample : samples) {
+            SensorLiveSample live = SensorLiveSample.builder()
+                    .sensorId(sample.sensorId())
+                    .measuredAt(sample.measuredAt())
+                    .value(sample.value())
+                    .build();
+            all.add(live);
+            bySensor.computeIfAbsent(sample.sensorId(), id -> new ArrayList<>()).add(live);
+        }
+
+        emitters.forEach((emitter, sensorId) -> {
+            List<SensorLiveSample> data = ALL_SENSORS.equals(sensorId) ? all : bySensor.get(sensorId);
+            if (data == null || data.isEmpty()) return;
+
+            try {
+                emitter.send(SseEmitter.event().name("sensor-data").data(data));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        });
+    }
+}
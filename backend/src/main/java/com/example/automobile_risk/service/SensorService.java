@@ -26,6 +26,9 @@ public class SensorService {
 
     private final SensorRepository sensorRepository;
     private final EquipmentRepository equipmentRepository;
+    private final SensorCatalog sensorCatalog;
+    private final SensorLiveBuffer sensorLiveBuffer;
+    private final SensorAnomalyDetector sensorAnomalyDetector;
 
     /**
      *  1. 센서 생성
@@ -80,6 +83,9 @@ public class SensorService {
                 .orElseThrow(() -> new SensorNotFoundException(sensorId));
 
         sensorRepository.deleteById(sensorId);
+        sensorCatalog.evict(sensorId);
+        sensorLiveBuffer.evict(sensorId);
+        sensorAnomalyDetector.reset(sensorId);
 
         return sensor.getId();
     }
@@ -0,0 +1,18 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthFilterStats {
+    private long valid;
+    private long expired;
+    private long malformed;
+    private long missing;
+    private long rejected;   // 유효한 토큰이지만 사용자 / 권한 확인 실패
+}
@@ -0,0 +1,29 @@
+package com.example.automobile_risk.service.dto;
+
+import com.example.automobile_risk.entity.DueDatePredictionPayload;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueDatePredictionPayloadResponse {
+    private Long predictionId;
+    private String requestJson;
+    private String responseJson;
+    private LocalDateTime createdDate;
+
+    public static DueDatePredictionPayloadResponse from(DueDatePredictionPayload e) {
+        return DueDatePredictionPayloadResponse.builder()
+                .predictionId(e.getPredictionId())
+                .requestJson(e.getRequestJson())
+                .responseJson(e.getResponseJson())
+                .createdDate(e.getCreatedDate())
+                .build();
+    }
+}
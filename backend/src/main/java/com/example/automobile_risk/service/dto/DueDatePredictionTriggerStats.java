@@ -0,0 +1,18 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueDatePredictionTriggerStats {
+    private long received;
+    private long coalesced;
+    private long executed;
+    private long failed;
+    private int pending;
+}
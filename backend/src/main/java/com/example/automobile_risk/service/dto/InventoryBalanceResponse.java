@@ -0,0 +1,20 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryBalanceResponse {
+
+    private Long partId;
+    private LocalDateTime at;
+    private long balance;               // at 시점 잔량 (이력 기준)
+    private LocalDateTime checkpointAt; // 계산에 사용한 체크포인트 (없으면 null)
+}
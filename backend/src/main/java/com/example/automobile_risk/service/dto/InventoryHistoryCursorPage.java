@@ -0,0 +1,24 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 이력 최신순 keyset 페이지 (다음 요청 시 nextOccuredAt / nextId 를 cursor 로 전달)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryHistoryCursorPage {
+
+    private List<InventoryHistoryResponse> content;
+    private boolean hasNext;
+    private LocalDateTime nextOccuredAt;
+    private Long nextId;
+}
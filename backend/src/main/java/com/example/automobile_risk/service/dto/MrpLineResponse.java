@@ -0,0 +1,21 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpLineResponse {
+
+    private Long partId;
+    private String partName;
+    private long requiredQty;      // 총 소요량
+    private int currentQty;        // 현재 재고
+    private int safetyQty;         // 안전 재고
+    private long shortageQty;      // 소요량 - 현재 재고 (부족분, 0 이상)
+    private long safetyShortageQty; // 소요량 + 안전 재고 - 현재 재고 (0 이상)
+}
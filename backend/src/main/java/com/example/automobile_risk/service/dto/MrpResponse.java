@@ -0,0 +1,21 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpResponse {
+
+    private long plannedProductionQty;   // 계획 상태 생산 수량 합계
+    private long unallocatedOrderQty;    // 미할당 주문 수량 합계
+    private long additionalQty;          // what-if 추가 수량 합계
+    private int shortagePartCount;       // 부족 부품 수
+    private List<MrpLineResponse> lines; // 부족분 큰 순
+}
@@ -0,0 +1,22 @@
+package com.example.automobile_risk.service.dto;
+
+import com.example.automobile_risk.entity.enumclass.EquipmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스트리밍 이상 감지 결과
+ *
+ * @param level  WARNING 또는 STOP
+ * @param rule   EWMA (z-score 초과) 또는 CUSUM (누적합 초과)
+ */
+public record SensorAnomalyAlert(
+        long sensorId,
+        EquipmentStatus level,
+        String rule,
+        double value,
+        double zScore,
+        double cusum,
+        LocalDateTime measuredAt
+) {
+}
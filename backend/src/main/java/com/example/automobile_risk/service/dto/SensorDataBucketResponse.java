@@ -0,0 +1,22 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SensorDataBucketResponse {
+
+    private LocalDateTime bucketStart;
+    private Double min;
+    private Double max;
+    private Double avg;
+    private long count;
+    private Double last;
+}
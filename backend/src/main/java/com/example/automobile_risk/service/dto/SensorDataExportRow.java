@@ -0,0 +1,15 @@
+package com.example.automobile_risk.service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 센서 측정값 (엔티티 없이 ResultSet 에서 바로 매핑)
+ */
+public record SensorDataExportRow(
+        long sensorDataId,
+        long sensorId,
+        String sensorType,
+        LocalDateTime measuredAt,
+        double value
+) {
+}
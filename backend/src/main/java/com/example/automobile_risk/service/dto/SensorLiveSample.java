@@ -0,0 +1,19 @@
+package com.example.automobile_risk.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SensorLiveSample {
+
+    private Long sensorId;
+    private LocalDateTime measuredAt;
+    private Double value;
+}
@@ -0,0 +1,9 @@
+package com.example.automobile_risk.service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 수집용 센서 측정값 (sensorId, measuredAt, value)
+ */
+public record SensorSample(long sensorId, LocalDateTime measuredAt, double value) {
+}
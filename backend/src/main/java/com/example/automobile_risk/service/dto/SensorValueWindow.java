@@ -0,0 +1,11 @@
+package com.example.automobile_risk.service.dto;
+
+/**
+ * 구간 측정값 (시간순, 박싱 없는 배열)
+ *
+ * @param epochMillis 측정 시각 (UTC 기준 epoch millis)
+ * @param values      측정값
+ * @param size        유효 길이
+ */
+public record SensorValueWindow(long[] epochMillis, double[] values, int size) {
+}
@@ -0,0 +1,190 @@
+package com.example.automobile_risk.security;
+
+import com.example.automobile_risk.repository.UserRepository;
+import com.example.automobile_risk.service.dto.AuthFilterStats;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+
+    private UserRepository userRepository;
+    private UserStatusCache userStatusCache;
+    private JwtUtils jwtUtils;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60_000);
+        jwtUtils.init();
+
+        userRepository = mock(UserRepository.class);
+        userStatusCache = new UserStatusCache(userRepository);
+        ReflectionTestUtils.setField(userStatusCache, "ttlSeconds", 60L);
+
+        filter = new JwtAuthenticationFilter(jwtUtils, userStatusCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validTokenAuthenticatesWithRoleClaim() throws Exception {
+        MockFilterChain chain = filter(bearer(issue("kim", "ROLE_ADMIN")));
+
+        assertNotNull(chain.getRequest());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("kim", ((User) authentication.getPrincipal()).getUsername());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), List.copyOf(authentication.getAuthorities()));
+        assertStats(1, 0, 0, 0, 0);
+    }
+
+    @Test
+    void tokenQueryParameterIsAccepted() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sensor-data/stream");
+        request.setParameter("token", issue("kim", "ROLE_PROCESS_MANAGER"));
+
+        filter(request);
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertStats(1, 0, 0, 0, 0);
+    }
+
+    @Test
+    void expiredToken() throws Exception {
+        String token = Jwts.builder()
+                .setSubject("kim")
+                .claim(JwtUtils.ROLE_CLAIM, "ADMIN")
+                .setIssuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        MockFilterChain chain = filter(bearer(token));
+
+        // 인증 없이 다음 필터로 진행
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertStats(0, 1, 0, 0, 0);
+    }
+
+    @Test
+    void malformedOrForeignSignedToken() throws Exception {
+        String foreign = Jwts.builder()
+                .setSubject("kim")
+                .claim(JwtUtils.ROLE_CLAIM, "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-that-is-long-enough-too".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        filter(bearer("not-a-jwt"));
+        filter(bearer(foreign));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertStats(0, 0, 2, 0, 0);
+    }
+
+    @Test
+    void missingToken() throws Exception {
+        filter(new MockHttpServletRequest("GET", "/api/orders"));
+
+        MockHttpServletRequest emptyBearer = new MockHttpServletRequest("GET", "/api/orders");
+        emptyBearer.addHeader("Authorization", "Bearer ");
+        filter(emptyBearer);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertStats(0, 0, 0, 2, 0);
+    }
+
+    @Test
+    void unknownRoleClaimIsRejected() throws Exception {
+        filter(bearer(issue("kim", "ROLE_SUPERUSER")));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertStats(0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void tokenWithoutRoleForMissingUserIsRejected() throws Exception {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        filter(bearer(issue("ghost", null)));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertStats(0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void userLookupFailureIsRejected() throws Exception {
+        ReflectionTestUtils.setField(userStatusCache, "enabled", true);
+        when(userRepository.findByUsername("kim")).thenThrow(new IllegalStateException("db down"));
+
+        MockFilterChain chain = filter(bearer(issue("kim", "ROLE_ADMIN")));
+
+        // 조회 실패는 형식 오류가 아니라 rejected, 요청은 인증 없이 진행
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertStats(0, 0, 0, 0, 1);
+    }
+
+    private String issue(String username, String authority) {
+        List<GrantedAuthority> authorities = authority != null
+                ? List.of(new SimpleGrantedAuthority(authority))
+                : List.of();
+        User principal = new User(username, "", authorities);
+        return jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private MockFilterChain filter(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    private void assertStats(long valid, long expired, long malformed, long missing, long rejected) {
+        AuthFilterStats stats = filter.getStats();
+        assertEquals(valid, stats.getValid(), "valid");
+        assertEquals(expired, stats.getExpired(), "expired");
+        assertEquals(malformed, stats.getMalformed(), "malformed");
+        assertEquals(missing, stats.getMissing(), "missing");
+        assertEquals(rejected, stats.getRejected(), "rejected");
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.enumclass.InventoryChangeType;
+import com.example.automobile_risk.repository.InventoryJdbcRepository;
+import com.example.automobile_risk.service.dto.InventoryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InventoryLedgerTest {
+
+    private static final long BOLT = 1L;
+    private static final long NUT = 2L;
+
+    private FakeInventoryJdbcRepository repository;
+    private InventoryLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FakeInventoryJdbcRepository();
+        repository.addInventory(BOLT, "bolt", 10);
+        repository.addInventory(NUT, "nut", 4);
+
+        ledger = new InventoryLedger(repository);
+        ledger.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void commitAppliesChange() {
+        begin();
+        ledger.apply(Map.of(BOLT, -3, NUT, 5), 100L, "PRODUCTION", InventoryChangeType.OUT, null);
+
+        // 커밋 전에는 반영된 수량 그대로
+        assertEquals(10, qty(BOLT));
+        assertEquals(4, qty(NUT));
+
+        commit();
+
+        assertEquals(7, qty(BOLT));
+        assertEquals(9, qty(NUT));
+    }
+
+    @Test
+    void pendingOutIsReservedUntilCompletion() {
+        begin();
+        ledger.apply(Map.of(BOLT, -6), 100L, "PRODUCTION", InventoryChangeType.OUT, null);
+        List<TransactionSynchronization> first = suspend();
+
+        // 다른 트랜잭션은 예약된 6 개를 뺀 4 개만 쓸 수 있다
+        begin();
+        assertThrows(IllegalStateException.class,
+                () -> ledger.apply(Map.of(BOLT, -5), 101L, "PRODUCTION", InventoryChangeType.OUT, null));
+        ledger.apply(Map.of(BOLT, -4), 101L, "PRODUCTION", InventoryChangeType.OUT, null);
+        commit();
+
+        complete(first, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(0, qty(BOLT));
+    }
+
+    @Test
+    void rollbackReleasesReservation() {
+        begin();
+        ledger.apply(Map.of(BOLT, -6), 100L, "PRODUCTION", InventoryChangeType.OUT, null);
+        rollback();
+
+        assertEquals(10, qty(BOLT));
+
+        begin();
+        ledger.apply(Map.of(BOLT, -10), 101L, "PRODUCTION", InventoryChangeType.OUT, null);
+        commit();
+
+        assertEquals(0, qty(BOLT));
+    }
+
+    @Test
+    void shortageRejectsWholeChangeSet() {
+        begin();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ledger.apply(Map.of(BOLT, -1, NUT, -5), 100L, "PRODUCTION", InventoryChangeType.OUT, null));
+        assertTrue(e.getMessage().contains("nut"));
+
+        // 예약 / 이력 / 완료 콜백 모두 남지 않음
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        assertTrue(repository.pending.isEmpty());
+        rollback();
+
+        begin();
+        ledger.apply(Map.of(BOLT, -10), 101L, "PRODUCTION", InventoryChangeType.OUT, null);
+        commit();
+        assertEquals(0, qty(BOLT));
+    }
+
+    @Test
+    void applyRequiresTransaction() {
+        assertThrows(IllegalStateException.class,
+                () -> ledger.apply(Map.of(BOLT, -1), 100L, "PRODUCTION", InventoryChangeType.OUT, null));
+    }
+
+    @Test
+    void unknownPartIsRejected() {
+        begin();
+        assertThrows(IllegalStateException.class,
+                () -> ledger.apply(Map.of(99L, 1), 100L, "MANUAL", InventoryChangeType.IN, null));
+    }
+
+    @Test
+    void reconcileFoldsEachHistoryExactlyOnce() {
+        begin();
+        ledger.apply(Map.of(BOLT, -3), 100L, "PRODUCTION", InventoryChangeType.OUT, null);
+        commit();
+        begin();
+        ledger.apply(Map.of(BOLT, 5, NUT, -4), 101L, "MANUAL", InventoryChangeType.ADJUST, null);
+        commit();
+        begin();
+        ledger.apply(Map.of(NUT, 2), 102L, "MANUAL", InventoryChangeType.IN, null);
+        rollback();
+
+        // 반영 전: current_qty + 미반영 이력으로 복원해도 메모리 값과 같음
+        assertEquals(10, repository.currentQty(BOLT));
+        assertEquals(12, reloadedQty(BOLT));
+        assertEquals(0, reloadedQty(NUT));
+
+        ledger.reconcile();
+        ledger.reconcile();
+
+        assertEquals(12, repository.currentQty(BOLT));
+        assertEquals(0, repository.currentQty(NUT));
+        assertEquals(12, qty(BOLT));
+        assertEquals(0, qty(NUT));
+        assertEquals(12, reloadedQty(BOLT));
+        assertEquals(0, reloadedQty(NUT));
+
+        // 반영 후 새 이력만 다음 반영 대상
+        begin();
+        ledger.apply(Map.of(NUT, 3), 103L, "MANUAL", InventoryChangeType.IN, null);
+        commit();
+        assertEquals(3, reloadedQty(NUT));
+        ledger.reconcile();
+        ledger.reconcile();
+        assertEquals(3, repository.currentQty(NUT));
+        assertEquals(3, reloadedQty(NUT));
+    }
+
+    @Test
+    void concurrentOutNeverOversells() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                long referenceId = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    TransactionSynchronizationManager.initSynchronization();
+                    try {
+                        ledger.apply(Map.of(BOLT, -1, NUT, -1), referenceId, "PRODUCTION", InventoryChangeType.OUT, null);
+                        complete(TransactionSynchronizationManager.getSynchronizations(),
+                                TransactionSynchronization.STATUS_COMMITTED);
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false;
+                    } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) succeeded++;
+            }
+
+            assertEquals(4, succeeded);
+            assertEquals(6, qty(BOLT));
+            assertEquals(0, qty(NUT));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int qty(long partId) {
+        Optional<InventoryResponse> response = ledger.get(partId);
+        assertTrue(response.isPresent());
+        return response.get().getCurrentQty();
+    }
+
+    // 기동 시와 같은 방식으로 DB 에서 다시 적재한 수량
+    private int reloadedQty(long partId) {
+        InventoryLedger reloaded = new InventoryLedger(repository);
+        reloaded.load();
+        return reloaded.get(partId).orElseThrow().getCurrentQty();
+    }
+
+    private void begin() {
+        assertFalse(TransactionSynchronizationManager.isSynchronizationActive());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private List<TransactionSynchronization> suspend() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private void commit() {
+        repository.commit();
+        complete(suspend(), TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void rollback() {
+        repository.rollback();
+        complete(suspend(), TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    /**
+     * inventory / inventory_history 를 메모리로 흉내 낸 저장소
+     * - 이력은 commit() 전까지 pending (트랜잭션 롤백 시 함께 사라짐)
+     * - foldUnreconciled 는 FOLD_SQL 과 같이 미반영 이력만 한 번 합산하고 reconciled 로 표시
+     */
+    private static final class FakeInventoryJdbcRepository extends InventoryJdbcRepository {
+
+        private final Map<Long, LedgerRow> inventories = new LinkedHashMap<>();
+        private final List<History> histories = new ArrayList<>();
+        private final List<History> pending = new ArrayList<>();
+
+        FakeInventoryJdbcRepository() {
+            super(new JdbcTemplate());
+        }
+
+        void addInventory(long partId, String partName, int currentQty) {
+            inventories.put(partId, new LedgerRow(partId, partId, partName, currentQty, 0));
+        }
+
+        synchronized int currentQty(long partId) {
+            return inventories.get(partId).currentQty();
+        }
+
+        synchronized void commit() {
+            histories.addAll(pending);
+            pending.clear();
+        }
+
+        synchronized void rollback() {
+            pending.clear();
+        }
+
+        @Override
+        public synchronized int foldUnreconciled() {
+            Map<Long, Integer> delta = new LinkedHashMap<>();
+            for (History history : histories) {
+                if (history.reconciled) continue;
+                history.reconciled = true;
+                if (!InventoryChangeType.isPlanned(history.row.changeType())) {
+                    delta.merge(history.row.partId(), history.row.changeQty(), Integer::sum);
+                }
+            }
+            delta.forEach((partId, change) -> {
+                LedgerRow row = inventories.get(partId);
+                inventories.put(partId, new LedgerRow(
+                        row.inventoryId(), partId, row.partName(), row.currentQty() + change, row.safetyQty()));
+            });
+            return delta.size();
+        }
+
+        @Override
+        public synchronized List<LedgerRow> loadLedger() {
+            List<LedgerRow> rows = new ArrayList<>();
+            for (Long partId : inventories.keySet()) {
+                rows.add(loadLedger(partId).orElseThrow());
+            }
+            return rows;
+        }
+
+        @Override
+        public synchronized Optional<LedgerRow> loadLedger(Long partId) {
+            LedgerRow row = inventories.get(partId);
+            if (row == null) return Optional.empty();
+
+            int delta = 0;
+            for (History history : histories) {
+                if (!history.reconciled && history.row.partId() == partId
+                        && !InventoryChangeType.isPlanned(history.row.changeType())) {
+                    delta += history.row.changeQty();
+                }
+            }
+            return Optional.of(new LedgerRow(
+                    row.inventoryId(), partId, row.partName(), row.currentQty() + delta, row.safetyQty()));
+        }
+
+        @Override
+        public synchronized void batchInsertHistory(List<HistoryRow> rows) {
+            for (HistoryRow row : rows) {
+                pending.add(new History(row));
+            }
+        }
+    }
+
+    private static final class History {
+
+        private final InventoryJdbcRepository.HistoryRow row;
+        private boolean reconciled;
+
+        History(InventoryJdbcRepository.HistoryRow row) {
+            this.row = row;
+        }
+    }
+}
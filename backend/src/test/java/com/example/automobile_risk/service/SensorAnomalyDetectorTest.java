@@ -0,0 +1,202 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.enumclass.EquipmentStatus;
+import com.example.automobile_risk.service.dto.SensorAnomalyAlert;
+import com.example.automobile_risk.service.dto.SensorSample;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SensorAnomalyDetectorTest {
+
+    private static final long SENSOR = 7L;
+    private static final double MEAN = 10.0;
+
+    private SensorAnomalyDetector detector;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        detector = new SensorAnomalyDetector();
+        ReflectionTestUtils.setField(detector, "alpha", 0.05);
+        ReflectionTestUtils.setField(detector, "warmupSamples", 30);
+        ReflectionTestUtils.setField(detector, "zWarn", 4.0);
+        ReflectionTestUtils.setField(detector, "zStop", 6.0);
+        ReflectionTestUtils.setField(detector, "cusumK", 0.5);
+        ReflectionTestUtils.setField(detector, "cusumWarn", 8.0);
+        ReflectionTestUtils.setField(detector, "cusumStop", 16.0);
+        ReflectionTestUtils.setField(detector, "cooldownMillis", 60_000L);
+
+        now = LocalDateTime.of(2026, 1, 1, 0, 0);
+    }
+
+    @Test
+    void noAlertDuringWarmUp() {
+        // 처음 30 개는 통계만 쌓음 → 큰 값이 와도 경보 없음
+        assertTrue(baseline(SENSOR, 20).isEmpty());
+        assertTrue(observe(SENSOR, MEAN + 1_000).isEmpty());
+        assertTrue(baseline(SENSOR, 9).isEmpty());
+
+        assertTrue(baseline(SENSOR, 200).isEmpty());
+        assertEquals(1, observe(SENSOR, MEAN + 1_000).size());
+    }
+
+    @Test
+    void zScoreWarnThenStop() {
+        assertTrue(baseline(SENSOR, 200).isEmpty());
+
+        List<SensorAnomalyAlert> warn = observe(SENSOR, MEAN + 5);
+        assertEquals(1, warn.size());
+        SensorAnomalyAlert alert = warn.get(0);
+        assertEquals(SENSOR, alert.sensorId());
+        assertEquals(EquipmentStatus.WARNING, alert.level());
+        assertEquals("EWMA", alert.rule());
+        assertTrue(alert.zScore() >= 4.0 && alert.zScore() < 6.0, "z=" + alert.zScore());
+
+        // 같은 레벨은 다시 알리지 않음, 중지로 상승은 cooldown 없이 즉시
+        assertTrue(observe(SENSOR, MEAN + 5).isEmpty());
+        List<SensorAnomalyAlert> stop = observe(SENSOR, MEAN + 30);
+        assertEquals(1, stop.size());
+        assertEquals(EquipmentStatus.STOP, stop.get(0).level());
+        assertTrue(stop.get(0).zScore() >= 6.0, "z=" + stop.get(0).zScore());
+    }
+
+    @Test
+    void stopWithoutWarningWhenZScoreIsLarge() {
+        baseline(SENSOR, 200);
+
+        List<SensorAnomalyAlert> alerts = observe(SENSOR, MEAN - 10);
+        assertEquals(1, alerts.size());
+        assertEquals(EquipmentStatus.STOP, alerts.get(0).level());
+        assertTrue(alerts.get(0).zScore() <= -6.0, "z=" + alerts.get(0).zScore());
+    }
+
+    @Test
+    void cusumAccumulatesSmallShift() {
+        baseline(SENSOR, 200);
+
+        // z 가 경고 임계값보다 작은 지속 편차 → 몇 샘플 뒤 CUSUM 경고
+        List<SensorAnomalyAlert> alerts = new ArrayList<>();
+        int samples = 0;
+        while (alerts.isEmpty() && samples < 50) {
+            alerts = observe(SENSOR, MEAN + 2.5);
+            samples++;
+        }
+
+        assertEquals(1, alerts.size());
+        SensorAnomalyAlert alert = alerts.get(0);
+        assertEquals(EquipmentStatus.WARNING, alert.level());
+        assertEquals("CUSUM", alert.rule());
+        assertTrue(Math.abs(alert.zScore()) < 4.0, "z=" + alert.zScore());
+        assertTrue(alert.cusum() >= 8.0 && alert.cusum() < 16.0, "cusum=" + alert.cusum());
+        assertTrue(samples > 1, "samples=" + samples);
+    }
+
+    @Test
+    void cusumRestartsFromZeroAfterAlert() {
+        baseline(SENSOR, 200);
+
+        List<SensorAnomalyAlert> warn = observe(SENSOR, MEAN + 5);
+        assertEquals(EquipmentStatus.WARNING, warn.get(0).level());
+
+        // 경보 시 누적합을 비우므로 다음 편차의 cusum 은 그 샘플 하나만큼
+        List<SensorAnomalyAlert> stop = observe(SENSOR, MEAN + 30);
+        assertEquals(EquipmentStatus.STOP, stop.get(0).level());
+        assertEquals(stop.get(0).zScore() - 0.5, stop.get(0).cusum(), 1e-9);
+    }
+
+    @Test
+    void resetRestartsWarmUp() {
+        baseline(SENSOR, 200);
+        detector.reset(SENSOR);
+
+        assertTrue(baseline(SENSOR, 10).isEmpty());
+        assertTrue(observe(SENSOR, MEAN + 1_000).isEmpty());
+    }
+
+    @Test
+    void cooldownSuppressesRealertAfterRecovery() {
+        baseline(SENSOR, 200);
+        assertEquals(1, observe(SENSOR, MEAN + 5).size());
+
+        // 정상 복귀 (양쪽 cusum 0) 후 cooldown(60 초) 안의 재경보는 무시
+        steady(SENSOR, 100);
+        assertTrue(observe(SENSOR, MEAN + 5).isEmpty());
+
+        // cooldown 경과 후 다시 경보
+        steady(SENSOR, 100);
+        now = now.plusSeconds(60);
+        assertEquals(1, observe(SENSOR, MEAN + 5).size());
+    }
+
+    @Test
+    void sensorIdZeroIsTrackedSeparately() {
+        baseline(0L, 200);
+        baseline(1L, 10);
+
+        // sensor 1 은 아직 warm-up
+        assertTrue(observe(1L, MEAN + 1_000).isEmpty());
+
+        List<SensorAnomalyAlert> alerts = observe(0L, MEAN + 1_000);
+        assertEquals(1, alerts.size());
+        assertEquals(0L, alerts.get(0).sensorId());
+
+        detector.reset(0L);
+        assertTrue(observe(0L, MEAN + 1_000).isEmpty());
+    }
+
+    @Test
+    void manySensorsKeepIndependentStatistics() {
+        // 초기 용량(256)을 넘겨 slot 배열 확장과 id 테이블 rehash 를 거침
+        int sensors = 1_000;
+        for (int i = 0; i < 200; i++) {
+            List<SensorSample> batch = new ArrayList<>(sensors);
+            for (long id = 1; id <= sensors; id++) {
+                batch.add(new SensorSample(id * 31, now, id * 100 + (i % 2 == 0 ? 1 : -1)));
+            }
+            now = now.plusNanos(100_000_000);
+            assertTrue(detector.observe(batch).isEmpty());
+        }
+
+        List<SensorSample> spikes = new ArrayList<>(sensors);
+        for (long id = 1; id <= sensors; id++) {
+            spikes.add(new SensorSample(id * 31, now, id * 100 + (id % 2 == 0 ? 5 : 0)));
+        }
+        List<SensorAnomalyAlert> alerts = detector.observe(spikes);
+
+        assertEquals(sensors / 2, alerts.size());
+        for (SensorAnomalyAlert alert : alerts) {
+            assertEquals(0, (alert.sensorId() / 31) % 2);
+            assertEquals(EquipmentStatus.WARNING, alert.level());
+        }
+    }
+
+    // MEAN ± 1 을 번갈아 n 개 (표준편차 약 1), 100ms 간격
+    private List<SensorAnomalyAlert> baseline(long sensorId, int n) {
+        List<SensorAnomalyAlert> alerts = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            alerts.addAll(observe(sensorId, MEAN + (i % 2 == 0 ? 1 : -1)));
+        }
+        return alerts;
+    }
+
+    // 평균값만 n 개 → z 가 cusumK 보다 작아 누적합이 0 으로 내려감
+    private void steady(long sensorId, int n) {
+        for (int i = 0; i < n; i++) {
+            assertTrue(observe(sensorId, MEAN).isEmpty());
+        }
+    }
+
+    private List<SensorAnomalyAlert> observe(long sensorId, double value) {
+        List<SensorAnomalyAlert> alerts = detector.observe(List.of(new SensorSample(sensorId, now, value)));
+        now = now.plusNanos(100_000_000);
+        return alerts;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.service.SensorDataArchiveCodec.Columns;
+import com.example.automobile_risk.service.SensorDataArchiveCodec.Cursor;
+import com.example.automobile_risk.service.SensorDataArchiveCodec.DayFile;
+import com.example.automobile_risk.service.SensorDataArchiveCodec.Writer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SensorDataArchiveCodecTest {
+
+    private static final long BASE_MICROS =
+            SensorDataArchiveCodec.toEpochMicros(LocalDateTime.of(2026, 1, 15, 0, 0));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void emptyColumns() {
+        Columns decoded = roundTrip(new long[0], new long[0], new double[0]);
+
+        assertEquals(0, decoded.size());
+    }
+
+    @Test
+    void singleSample() {
+        assertRoundTrip(new long[]{42}, new long[]{BASE_MICROS + 123_456}, new double[]{-17.25});
+    }
+
+    @Test
+    void deltaOfDeltaRangeBoundaries() {
+        // 각 구간 경계와 그 바로 바깥: 0 / [-63, 64] / [-8191, 8192] / [-8388607, 8388608] / 64 bit
+        long[] dods = {0, 64, 65, -63, -64, 8192, 8193, -8191, -8192,
+                8_388_608, 8_388_609, -8_388_607, -8_388_608, Integer.MAX_VALUE, -Integer.MAX_VALUE};
+
+        long[] times = new long[dods.length + 2];
+        times[0] = BASE_MICROS;
+        times[1] = BASE_MICROS + 1_000_000;
+        long delta = 1_000_000;
+        for (int i = 0; i < dods.length; i++) {
+            delta += dods[i];
+            times[i + 2] = times[i + 1] + delta;
+        }
+
+        assertRoundTrip(sequentialIds(times.length, 1), times, new double[times.length]);
+    }
+
+    @Test
+    void microsecondsArePreserved() {
+        LocalDateTime measuredAt = LocalDateTime.of(2026, 1, 15, 9, 30, 1, 123_456_000);
+        long micros = SensorDataArchiveCodec.toEpochMicros(measuredAt);
+
+        Columns decoded = roundTrip(new long[]{1, 2}, new long[]{micros, micros + 1}, new double[]{1.0, 2.0});
+
+        assertEquals(measuredAt, SensorDataArchiveCodec.fromEpochMicros(decoded.epochMicros()[0]));
+        assertEquals(measuredAt.plusNanos(1_000), SensorDataArchiveCodec.fromEpochMicros(decoded.epochMicros()[1]));
+    }
+
+    @Test
+    void specialDoubleValues() {
+        double[] values = {0.0, -0.0, Double.NaN, 1.5, Double.NaN, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE, 0.0};
+
+        assertRoundTrip(sequentialIds(values.length, 100), evenTimes(values.length), values);
+    }
+
+    @Test
+    void longRunOfRepeatedValues() {
+        int n = 10_000;
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i < n / 2 ? 3.14 : 2.71;
+        }
+
+        byte[] encoded = assertRoundTrip(sequentialIds(n, 1), evenTimes(n), values);
+
+        // 같은 값 · 같은 간격 · 연속 id 는 샘플당 약 3 bit
+        assertTrue(encoded.length < SensorDataArchiveCodec.BLOCK_HEADER_BYTES + n / 2);
+    }
+
+    @Test
+    void idGapsAndDecreasingIds() {
+        long[] ids = {5, 6, 1_000_000, 7, Long.MAX_VALUE, 0, 1};
+
+        assertRoundTrip(ids, evenTimes(ids.length), new double[ids.length]);
+    }
+
+    @Test
+    void decodeFromBufferPosition() {
+        byte[] encoded = SensorDataArchiveCodec.encodeBlock(
+                new Columns(new long[]{1, 2}, new long[]{BASE_MICROS, BASE_MICROS + 10}, new double[]{1, 2}, 2));
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 3);
+        buffer.position(3);
+        buffer.put(encoded);
+        buffer.position(3);
+
+        Columns decoded = SensorDataArchiveCodec.decodeBlock(buffer);
+
+        assertArrayEquals(new long[]{1, 2}, decoded.ids());
+        assertArrayEquals(new long[]{BASE_MICROS, BASE_MICROS + 10}, decoded.epochMicros());
+    }
+
+    @Test
+    void dayFileSplitsIntoIndexedBlocks() throws IOException {
+        int n = SensorDataArchiveCodec.BLOCK_ROWS * 2 + 10;
+        long[] ids = sequentialIds(n, 1);
+        long[] times = evenTimes(n);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i * 0.5;
+        }
+
+        DayFile file = writeDayFile(ids, times, values);
+
+        assertEquals(n, file.rowCount());
+        assertEquals(3, file.blockCount());
+        assertEquals(times[0], file.firstMicros(0));
+        assertEquals(times[SensorDataArchiveCodec.BLOCK_ROWS - 1], file.lastMicros(0));
+        assertEquals(times[SensorDataArchiveCodec.BLOCK_ROWS], file.firstMicros(1));
+        assertEquals(times[n - 1], file.lastMicros(2));
+
+        Cursor cursor = file.cursor(Long.MIN_VALUE, Long.MAX_VALUE);
+        for (int i = 0; i < n; i++) {
+            assertTrue(cursor.next());
+            assertEquals(ids[i], cursor.id());
+            assertEquals(times[i], cursor.epochMicros());
+            assertEquals(values[i], cursor.value());
+        }
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void cursorSkipsBlocksOutsideRange() throws IOException {
+        int n = SensorDataArchiveCodec.BLOCK_ROWS * 3;
+        long[] times = evenTimes(n);
+        DayFile file = writeDayFile(sequentialIds(n, 1), times, new double[n]);
+
+        int first = SensorDataArchiveCodec.BLOCK_ROWS + 5;
+        int last = SensorDataArchiveCodec.BLOCK_ROWS * 2 + 7;
+        assertEquals(1, file.firstBlockEndingAtOrAfter(times[first]));
+
+        Cursor cursor = file.cursor(times[first], times[last]);
+        for (int i = first; i <= last; i++) {
+            assertTrue(cursor.next());
+            assertEquals(i + 1L, cursor.id());
+        }
+        assertFalse(cursor.next());
+
+        assertFalse(file.cursor(times[n - 1] + 1, Long.MAX_VALUE).next());
+        assertFalse(file.cursor(Long.MIN_VALUE, times[0] - 1).next());
+    }
+
+    @Test
+    void emptyDayFile() throws IOException {
+        DayFile file = writeDayFile(new long[0], new long[0], new double[0]);
+
+        assertEquals(0, file.rowCount());
+        assertEquals(0, file.blockCount());
+        assertFalse(file.cursor(Long.MIN_VALUE, Long.MAX_VALUE).next());
+    }
+
+    private DayFile writeDayFile(long[] ids, long[] times, double[] values) throws IOException {
+        Path path = tempDir.resolve("day.sda");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Writer writer = new Writer(channel);
+            for (int i = 0; i < ids.length; i++) {
+                writer.add(ids[i], times[i], values[i]);
+            }
+            assertEquals(ids.length, writer.finish());
+        }
+        return new DayFile(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
+
+    private static byte[] assertRoundTrip(long[] ids, long[] times, double[] values) {
+        byte[] encoded = SensorDataArchiveCodec.encodeBlock(new Columns(ids, times, values, ids.length));
+        Columns decoded = SensorDataArchiveCodec.decodeBlock(ByteBuffer.wrap(encoded));
+
+        assertEquals(ids.length, decoded.size());
+        assertArrayEquals(ids, decoded.ids());
+        assertArrayEquals(times, decoded.epochMicros());
+        for (int i = 0; i < values.length; i++) {
+            // NaN payload / -0.0 부호까지 비트 단위로 같아야 한다
+            assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(decoded.values()[i]),
+                    "value[" + i + "]");
+        }
+        return encoded;
+    }
+
+    private static Columns roundTrip(long[] ids, long[] times, double[] values) {
+        byte[] encoded = SensorDataArchiveCodec.encodeBlock(new Columns(ids, times, values, ids.length));
+        return SensorDataArchiveCodec.decodeBlock(ByteBuffer.wrap(encoded));
+    }
+
+    private static long[] sequentialIds(int n, long first) {
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = first + i;
+        }
+        return ids;
+    }
+
+    private static long[] evenTimes(int n) {
+        long[] times = new long[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = BASE_MICROS + i * 1_000_000L;
+        }
+        return times;
+    }
+}
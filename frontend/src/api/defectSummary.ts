@@ -1,8 +1,10 @@
 import { api } from './client';
 import { DefectSummaryItem, ProcessEventLog } from '../types/defectSummary';
+import { PageResponse } from './production';
 
 export const defectSummaryApi = {
-    list: () => api.get<DefectSummaryItem[]>('/api/v1/defect-summary'),
+    list: (page = 0, size = 100) =>
+        api.get<PageResponse<DefectSummaryItem>>(`/api/v1/defect-summary?page=${page}&size=${size}&sort=endDate,desc`),
     getDetail: (productionId: number) => api.get<DefectSummaryItem>(`/api/v1/defect-summary/${productionId}`),
     getLogs: (productionId: number) => api.get<ProcessEventLog[]>(`/api/v1/defect-summary/${productionId}/logs`),
     getLogsByOrderId: (orderId: number) => api.get<ProcessEventLog[]>(`/api/v1/defect-summary/order/${orderId}/logs`),
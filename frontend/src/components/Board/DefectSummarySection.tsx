@@ -18,6 +18,11 @@ export const DefectSummarySection = () => {
     const [expandedKey, setExpandedKey] = useState<string | null>(null);
     const [logs, setLogs] = useState<Record<string, ProcessEventLog[]>>({});
     const [logsLoading, setLogsLoading] = useState<Record<string, boolean>>({});
+    // 서버 페이징: 다음 페이지 번호 / 마지막 페이지 여부 / 전체 건수
+    const [nextPage, setNextPage] = useState(0);
+    const [hasMore, setHasMore] = useState(false);
+    const [totalCount, setTotalCount] = useState(0);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     useEffect(() => {
         fetchSummaries();
@@ -26,8 +31,11 @@ export const DefectSummarySection = () => {
     const fetchSummaries = async () => {
         try {
             setLoading(true);
-            const data = await defectSummaryApi.list();
-            setSummaries(data || []);
+            const data = await defectSummaryApi.list(0);
+            setSummaries(data?.content ?? []);
+            setNextPage(1);
+            setHasMore(data ? !data.last : false);
+            setTotalCount(data?.totalElements ?? 0);
         } catch (err: any) {
             setError(err.message || '결함 요약을 불러오는데 실패했습니다.');
         } finally {
@@ -35,6 +43,20 @@ export const DefectSummarySection = () => {
         }
     };
 
+    const fetchMore = async () => {
+        try {
+            setLoadingMore(true);
+            const data = await defectSummaryApi.list(nextPage);
+            setSummaries(prev => [...prev, ...(data?.content ?? [])]);
+            setNextPage(prev => prev + 1);
+            setHasMore(data ? !data.last : false);
+        } catch (err: any) {
+            setError(err.message || '결함 요약을 불러오는데 실패했습니다.');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const toggleExpand = async (summary: DefectSummaryItem) => {
         const key = getSummaryKey(summary);
 
@@ -131,7 +153,7 @@ export const DefectSummarySection = () => {
             <div className="flex items-center gap-2 mb-6">
                 <BarChart3 className="w-6 h-6 text-blue-600" />
                 <h2 className="text-xl font-bold text-gray-900">공정별 결함 요약</h2>
-                <span className="text-sm text-gray-500">({summaries.length}건)</span>
+                <span className="text-sm text-gray-500">({totalCount}건)</span>
             </div>
 
             <div className="space-y-4">
@@ -219,6 +241,18 @@ export const DefectSummarySection = () => {
                     );
                 })}
             </div>
+
+            {hasMore && (
+                <div className="flex justify-center mt-6">
+                    <button
+                        onClick={fetchMore}
+                        disabled={loadingMore}
+                        className="px-4 py-2 text-sm font-medium text-blue-600 bg-white border border-blue-300 rounded-lg hover:bg-blue-50 disabled:opacity-50"
+                    >
+                        {loadingMore ? '불러오는 중...' : `더 보기 (${summaries.length}/${totalCount})`}
+                    </button>
+                </div>
+            )}
         </div>
     );
 };
@@ -2,7 +2,7 @@ import os
 import shutil
 import uuid
 import traceback
-from typing import Optional
+from typing import List, Optional
 
 # .env 파일 로드 (있으면)
 from dotenv import load_dotenv
@@ -370,9 +370,25 @@ def predict_paint_auto():
 # =========================
 # PRESS APIs (SIM INPUT)
 # =========================
+class PressVibrationFeatures(BaseModel):
+    """백엔드 진동 센서 특징량 (없으면 시뮬레이션 입력 사용)"""
+    processExecutionId: Optional[int] = None
+    equipmentId: Optional[int] = None
+    sampleCount: Optional[int] = None
+    sampleRateHz: Optional[float] = None
+    mean: Optional[float] = None
+    rms: Optional[float] = None
+    peak: Optional[float] = None
+    crestFactor: Optional[float] = None
+    kurtosis: Optional[float] = None
+    bandEnergies: Optional[List[float]] = None
+
+
 @app.post("/api/v1/smartfactory/press/vibration")
-def predict_press_vibration():
+def predict_press_vibration(features: Optional[PressVibrationFeatures] = None):
     try:
+        if features is not None and features.rms is not None:
+            return press.predict_vibration_from_features(features.dict())
         return press.predict_vibration_anomaly_sim()
     except Exception as e:
         raise HTTPException(status_code=500, detail=str(e))
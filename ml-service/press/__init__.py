@@ -2,6 +2,7 @@ from .service import (
     load_press_models,
     get_press_status,
     predict_vibration_anomaly_sim,
+    predict_vibration_from_features,
     predict_press_image_sim,
     skip_to_next_image,
     _predict_press_image_from_path,
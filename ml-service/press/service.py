@@ -444,6 +444,52 @@ def predict_vibration_anomaly_sim():
         }
 
 
+# ✅ 센서 특징량 판정 기준 (정상 진동: 정규분포 kurtosis ≈ 3, crest factor ≈ 3~4)
+FEATURE_CFG = {
+    "KURTOSIS_LIMIT": 4.0,         # 충격성 결함(균열/유격)일수록 커짐
+    "CREST_FACTOR_LIMIT": 5.0,     # peak / rms
+    "HIGH_BAND_RATIO_LIMIT": 0.5,  # 상위 2개 대역 에너지 비율 (베어링/금형 마모)
+    "THRESHOLD": 1.0,              # anomaly score 가 이 값을 넘으면 이상
+}
+
+
+def predict_vibration_from_features(features: dict):
+    """
+    ✅ 백엔드가 진동 센서 측정값에서 계산한 특징량(RMS, kurtosis, crest factor, FFT 대역 에너지)으로 판정
+    - LSTM AE 는 원시 시계열 입력이라 특징량을 넣을 수 없으므로 기준값 대비 비율로 score 계산
+    - score = max(kurtosis / 한계, crest factor / 한계, 고주파 대역 비율 / 한계)
+    """
+    kurtosis = float(features.get("kurtosis") or 0.0)
+    crest_factor = float(features.get("crestFactor") or 0.0)
+    bands = [float(b or 0.0) for b in (features.get("bandEnergies") or [])]
+
+    total_energy = sum(bands)
+    high_band_ratio = sum(bands[len(bands) // 2:]) / total_energy if total_energy > 0 else 0.0
+
+    ratios = {
+        "kurtosis": kurtosis / FEATURE_CFG["KURTOSIS_LIMIT"],
+        "crest_factor": crest_factor / FEATURE_CFG["CREST_FACTOR_LIMIT"],
+        "high_band_ratio": high_band_ratio / FEATURE_CFG["HIGH_BAND_RATIO_LIMIT"],
+    }
+    score = max(ratios.values())
+    threshold = FEATURE_CFG["THRESHOLD"]
+
+    return {
+        "reconstruction_error": float(score),
+        "is_anomaly": 1.0 if score > threshold else 0.0,
+        "threshold": float(threshold),
+        "sensor_values": {
+            "rms": float(features.get("rms") or 0.0),
+            "peak": float(features.get("peak") or 0.0),
+            "kurtosis": kurtosis,
+            "crest_factor": crest_factor,
+            "high_band_ratio": float(high_band_ratio),
+        },
+        "score_ratios": {k: float(v) for k, v in ratios.items()},
+        "sample_count": int(features.get("sampleCount") or 0),
+        "source": "sensor_features",
+    }
+
 async def predict_press_image_sim():
     """
     ✅ 업로드 없이 서버가 자동으로 이미지 가져와서 예측 (순차 재생):